@@ -0,0 +1,61 @@
+package org.example.actuator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Backup online do H2 ({@code POST /actuator/backup}): gera um script SQL compactado com o schema e
+ * os dados, sem parar a aplicação, em qualquer modo de persistência. No modo servidor quem grava o
+ * arquivo é o processo do H2, no mesmo caminho da máquina em que ele roda. Restaura-se com
+ * {@code RUNSCRIPT FROM '<arquivo>' COMPRESSION ZIP}.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "backup")
+public class BackupEndpoint {
+
+  private static final DateTimeFormatter FORMATO_ARQUIVO =
+      DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final Path diretorio;
+
+  public BackupEndpoint(
+      JdbcTemplate jdbcTemplate,
+      @Value("${mensagem.h2.backup.diretorio:./backup}") Path diretorio) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.diretorio = diretorio;
+  }
+
+  @WriteOperation
+  public Backup backup() {
+    var arquivo = diretorio.toAbsolutePath()
+        .resolve("mensagem-" + LocalDateTime.now().format(FORMATO_ARQUIVO) + ".zip");
+    try {
+      Files.createDirectories(arquivo.getParent());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    var inicio = System.nanoTime();
+    jdbcTemplate.execute(
+        "SCRIPT TO '" + arquivo.toString().replace("'", "''") + "' COMPRESSION ZIP");
+    var duracao = Duration.ofNanos(System.nanoTime() - inicio).toMillis();
+    log.info("backup do banco gerado: Arquivo={}, Duração={}ms", arquivo, duracao);
+    return new Backup(arquivo.toString(), duracao);
+  }
+
+  public record Backup(String arquivo, long duracaoMs) {
+  }
+}
@@ -0,0 +1,30 @@
+package org.example.actuator;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.example.metrica.LatenciaRotas;
+import org.example.metrica.LatenciaRotas.LatenciaRota;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.stereotype.Component;
+
+/**
+ * Percentis de latência das rotas de mensagens em produção ({@code GET /actuator/latencia}), por
+ * método, rota e status, nas janelas de 1, 5 e 15 minutos. Os valores cobrem os intervalos já
+ * fechados, com atraso de até {@code mensagem.latencia.intervalo}.
+ */
+@Component
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@Endpoint(id = "latencia")
+@RequiredArgsConstructor
+public class LatenciaEndpoint {
+
+  private final LatenciaRotas latenciaRotas;
+
+  @ReadOperation
+  public List<LatenciaRota> latencias() {
+    return latenciaRotas.latencias();
+  }
+}
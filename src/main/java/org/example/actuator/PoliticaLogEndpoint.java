@@ -0,0 +1,66 @@
+package org.example.actuator;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.example.log.PoliticaLog;
+import org.example.log.PoliticaLog.Regra;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consulta e altera em execução as regras da {@link PoliticaLog}:
+ * {@code POST /actuator/politicalog/{operacao}} com {@code amostragem} e/ou
+ * {@code limitePorSegundo}; {@code DELETE} volta a operação à regra padrão.
+ */
+@Component
+@Endpoint(id = "politicalog")
+@RequiredArgsConstructor
+public class PoliticaLogEndpoint {
+
+  private final PoliticaLog politicaLog;
+
+  @ReadOperation
+  public Map<String, Object> regras() {
+    return Map.of("padrao", politicaLog.regraPadrao(), "operacoes", politicaLog.regras());
+  }
+
+  @WriteOperation
+  public Regra configurar(@Selector String operacao, @Nullable Double amostragem,
+      @Nullable Double limitePorSegundo) {
+    validarOperacao(operacao);
+    var atual = politicaLog.regras().getOrDefault(operacao, politicaLog.regraPadrao());
+    var regra = new Regra(
+        amostragem == null ? atual.amostragem() : amostragem,
+        limitePorSegundo == null ? atual.limitePorSegundo() : limitePorSegundo);
+    if (regra.amostragem() < 0 || regra.amostragem() > 1) {
+      throw new InvalidEndpointRequestException(
+          "amostragem deve estar entre 0 e 1", "amostragem inválida");
+    }
+    if (regra.limitePorSegundo() < 0) {
+      throw new InvalidEndpointRequestException(
+          "limitePorSegundo não pode ser negativo", "limite inválido");
+    }
+    politicaLog.configurar(operacao, regra);
+    return regra;
+  }
+
+  @DeleteOperation
+  public Regra restaurar(@Selector String operacao) {
+    validarOperacao(operacao);
+    politicaLog.restaurar(operacao);
+    return politicaLog.regraPadrao();
+  }
+
+  private static void validarOperacao(String operacao) {
+    if (!PoliticaLog.OPERACOES.contains(operacao)) {
+      throw new InvalidEndpointRequestException(
+          "operação desconhecida: " + operacao, "operação inválida");
+    }
+  }
+}
@@ -0,0 +1,197 @@
+package org.example.busca;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.br.BrazilianAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.example.dto.MensagemEvento;
+import org.example.model.Mensagem;
+import org.example.service.MensagemExportacaoService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Índice invertido (Lucene) do conteúdo das mensagens, mantido a partir dos {@link MensagemEvento}
+ * efetivados e reconstruído a partir do banco na inicialização. Guarda apenas o ID de cada
+ * mensagem: quem consulta recebe os IDs na ordem de relevância (BM25) e carrega as mensagens. As
+ * escritas ficam visíveis às buscas em até {@code mensagem.busca.atualizacao}.
+ */
+@Slf4j
+@Component
+public class IndiceMensagens {
+
+  private static final String CAMPO_ID = "id";
+
+  private static final String CAMPO_CONTEUDO = "conteudo";
+
+  private final Analyzer analyzer = new BrazilianAnalyzer();
+
+  private final boolean reconstruirNaInicializacao;
+
+  private final MensagemExportacaoService mensagemExportacaoService;
+
+  private final Directory diretorio;
+
+  private final IndexWriter indexWriter;
+
+  private final SearcherManager searcherManager;
+
+  private final ControlledRealTimeReopenThread<IndexSearcher> atualizador;
+
+  public IndiceMensagens(
+      @Value("${mensagem.busca.diretorio:}") String diretorio,
+      @Value("${mensagem.busca.atualizacao:1s}") Duration atualizacao,
+      @Value("${mensagem.busca.reconstruir-na-inicializacao:true}")
+      boolean reconstruirNaInicializacao,
+      MensagemExportacaoService mensagemExportacaoService,
+      MeterRegistry meterRegistry) throws IOException {
+    this.reconstruirNaInicializacao = reconstruirNaInicializacao;
+    this.mensagemExportacaoService = mensagemExportacaoService;
+    // sem diretório configurado o índice fica em memória, como o banco padrão
+    this.diretorio = diretorio.isBlank()
+        ? new ByteBuffersDirectory()
+        : FSDirectory.open(Path.of(diretorio));
+    this.indexWriter = new IndexWriter(this.diretorio, new IndexWriterConfig(analyzer));
+    this.searcherManager = new SearcherManager(indexWriter, null);
+    var intervalo = atualizacao.toMillis() / 1000.0;
+    this.atualizador = new ControlledRealTimeReopenThread<>(
+        indexWriter, searcherManager, intervalo, Math.min(intervalo, 0.025));
+    atualizador.setName("mensagem-busca-atualizacao");
+    atualizador.setDaemon(true);
+    atualizador.start();
+    Gauge.builder("mensagem.busca.documentos", indexWriter,
+            writer -> writer.getDocStats().numDocs)
+        .description("mensagens no índice de busca")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Busca as mensagens cujo conteúdo contém todos os termos da consulta, do mais para o menos
+   * relevante. Aceita a sintaxe simples do Lucene ({@code "frase"}, {@code -termo}, {@code pref*});
+   * o total é exato até mil ocorrências e, acima disso, um limite inferior.
+   */
+  public Ocorrencias buscar(String consulta, int inicio, int quantidade) {
+    var parser = new SimpleQueryParser(analyzer, CAMPO_CONTEUDO);
+    parser.setDefaultOperator(BooleanClause.Occur.MUST);
+    var query = parser.parse(consulta);
+    try {
+      var searcher = searcherManager.acquire();
+      try {
+        var topDocs = searcher.search(query, inicio + quantidade);
+        var storedFields = searcher.storedFields();
+        List<UUID> ids = new ArrayList<>(quantidade);
+        for (int i = inicio; i < topDocs.scoreDocs.length; i++) {
+          var documento = storedFields.document(topDocs.scoreDocs[i].doc, Set.of(CAMPO_ID));
+          ids.add(UUID.fromString(documento.get(CAMPO_ID)));
+        }
+        return new Ocorrencias(ids, topDocs.totalHits.value);
+      } finally {
+        searcherManager.release(searcher);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void atualizar(MensagemEvento evento) {
+    switch (evento.getTipo()) {
+      case CRIADA, ALTERADA -> indexar(evento.getMensagem());
+      case APAGADA -> remover(evento.getId());
+      default -> {
+        // GOSTEI não altera o conteúdo indexado
+      }
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void inicializar() {
+    if (reconstruirNaInicializacao) {
+      reconstruir();
+    }
+  }
+
+  /**
+   * Descarta o índice e indexa novamente todas as mensagens do banco, percorridas pelo cursor da
+   * exportação. Eventos recebidos durante a reconstrução continuam sendo aplicados.
+   */
+  public long reconstruir() {
+    var inicio = System.nanoTime();
+    try {
+      indexWriter.deleteAll();
+      var total = mensagemExportacaoService.exportarMensagens(this::indexar);
+      indexWriter.commit();
+      searcherManager.maybeRefreshBlocking();
+      log.info("índice de busca reconstruído: Mensagens={}, Duração={}ms",
+          total, Duration.ofNanos(System.nanoTime() - inicio).toMillis());
+      return total;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @PreDestroy
+  public void finalizar() throws IOException {
+    atualizador.close();
+    searcherManager.close();
+    indexWriter.close();
+    diretorio.close();
+  }
+
+  /**
+   * Torna visíveis às buscas as escritas feitas até aqui, sem aguardar o intervalo de atualização.
+   */
+  void atualizarLeitura() throws IOException {
+    searcherManager.maybeRefreshBlocking();
+  }
+
+  private void indexar(Mensagem mensagem) {
+    var documento = new Document();
+    documento.add(new StringField(CAMPO_ID, mensagem.getId().toString(), Field.Store.YES));
+    documento.add(new TextField(CAMPO_CONTEUDO, mensagem.getConteudo(), Field.Store.NO));
+    try {
+      indexWriter.updateDocument(new Term(CAMPO_ID, mensagem.getId().toString()), documento);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void remover(UUID id) {
+    try {
+      indexWriter.deleteDocuments(new Term(CAMPO_ID, id.toString()));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public record Ocorrencias(List<UUID> ids, long total) {
+  }
+}
@@ -0,0 +1,110 @@
+package org.example.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.example.model.Mensagem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carregamento único (single-flight) das mensagens por ID: chamadas simultâneas para o mesmo ID
+ * aguardam a consulta já em andamento e recebem o mesmo resultado ou a mesma exceção. A espera é
+ * limitada por {@code espera-maxima}; esgotado o prazo, a chamada consulta o banco por conta
+ * própria. Cada chamada recebe uma cópia, sem compartilhar a entidade gerenciada pelo Hibernate.
+ */
+@Slf4j
+@Component
+public class CarregamentoUnico {
+
+  static final String METRICA = "mensagem.carregamento";
+
+  private final boolean habilitado;
+
+  private final Duration esperaMaxima;
+
+  private final Map<UUID, CompletableFuture<Mensagem>> emAndamento = new ConcurrentHashMap<>();
+
+  private final Counter executados;
+
+  private final Counter compartilhados;
+
+  private final Counter esperasEsgotadas;
+
+  public CarregamentoUnico(
+      @Value("${mensagem.carregamento.habilitado:true}") boolean habilitado,
+      @Value("${mensagem.carregamento.espera-maxima:2s}") Duration esperaMaxima,
+      MeterRegistry meterRegistry) {
+    this.habilitado = habilitado;
+    this.esperaMaxima = esperaMaxima;
+    this.executados = contador(meterRegistry, "executado");
+    this.compartilhados = contador(meterRegistry, "compartilhado");
+    this.esperasEsgotadas = contador(meterRegistry, "espera_esgotada");
+    meterRegistry.gauge(METRICA + ".pendentes", emAndamento, Map::size);
+  }
+
+  public Mensagem carregar(UUID id, Function<UUID, Mensagem> carregador) {
+    if (!habilitado) {
+      return carregador.apply(id);
+    }
+    var carregamento = new CompletableFuture<Mensagem>();
+    var existente = emAndamento.putIfAbsent(id, carregamento);
+    if (existente != null) {
+      return aguardar(id, existente, carregador);
+    }
+    executados.increment();
+    try {
+      var mensagem = carregador.apply(id);
+      carregamento.complete(copiar(mensagem));
+      return mensagem;
+    } catch (RuntimeException | Error e) {
+      carregamento.completeExceptionally(e);
+      throw e;
+    } finally {
+      emAndamento.remove(id, carregamento);
+    }
+  }
+
+  private Mensagem aguardar(
+      UUID id, CompletableFuture<Mensagem> carregamento, Function<UUID, Mensagem> carregador) {
+    try {
+      var mensagem = carregamento.get(esperaMaxima.toMillis(), TimeUnit.MILLISECONDS);
+      compartilhados.increment();
+      return copiar(mensagem);
+    } catch (ExecutionException e) {
+      compartilhados.increment();
+      if (e.getCause() instanceof RuntimeException causa) {
+        throw causa;
+      }
+      throw (Error) e.getCause();
+    } catch (TimeoutException e) {
+      esperasEsgotadas.increment();
+      log.warn("espera pelo carregamento da mensagem esgotada: Id={}, Espera={}ms",
+          id, esperaMaxima.toMillis());
+      return carregador.apply(id);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return carregador.apply(id);
+    }
+  }
+
+  private static Counter contador(MeterRegistry meterRegistry, String resultado) {
+    return Counter.builder(METRICA)
+        .description("carregamentos de mensagem por ID, executados ou compartilhados")
+        .tag("resultado", resultado)
+        .register(meterRegistry);
+  }
+
+  private static Mensagem copiar(Mensagem mensagem) {
+    return mensagem == null ? null : mensagem.toBuilder().build();
+  }
+}
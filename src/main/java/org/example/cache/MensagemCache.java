@@ -0,0 +1,102 @@
+
+package org.example.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.example.model.Mensagem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache read-through das mensagens por ID (Caffeine, política W-TinyLFU), limitado por tamanho e
+ * por tempo de vida. Armazena e devolve cópias para que nenhuma entidade gerenciada pelo
+ * Hibernate fique compartilhada entre requisições.
+ */
+@Component
+public class MensagemCache {
+
+  private final boolean habilitado;
+
+  private final Cache<UUID, Mensagem> cache;
+
+  // avança a cada invalidação ou substituição; consultas em lote só preenchem se não mudou
+  private final AtomicLong geracao = new AtomicLong();
+
+  public MensagemCache(
+      @Value("${mensagem.cache.habilitado:true}") boolean habilitado,
+      @Value("${mensagem.cache.tamanho-maximo:10000}") long tamanhoMaximo,
+      @Value("${mensagem.cache.expiracao:5m}") Duration expiracao,
+      MeterRegistry meterRegistry) {
+    this.habilitado = habilitado;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(tamanhoMaximo)
+        .expireAfterWrite(expiracao)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "mensagens");
+  }
+
+  public Mensagem buscar(UUID id, Function<UUID, Mensagem> carregador) {
+    if (!habilitado) {
+      return carregador.apply(id);
+    }
+    return copiar(cache.get(id, chave -> copiar(carregador.apply(chave))));
+  }
+
+  public Mensagem obter(UUID id) {
+    return habilitado ? copiar(cache.getIfPresent(id)) : null;
+  }
+
+  public long geracao() {
+    return geracao.get();
+  }
+
+  /**
+   * Preenche a cópia de uma mensagem lida fora do {@link #buscar}, numa consulta em lote iniciada
+   * na geração informada. Não sobrescreve uma entrada existente nem preenche se alguma mensagem foi
+   * invalidada ou substituída desde a consulta, que pode ter lido a linha antes dessa escrita.
+   */
+  public void preencher(long geracaoConsulta, Mensagem mensagem) {
+    if (habilitado) {
+      cache.asMap().compute(mensagem.getId(), (id, atual) ->
+          atual != null || geracao.get() != geracaoConsulta ? atual : copiar(mensagem));
+    }
+  }
+
+  public void atualizar(Mensagem mensagem) {
+    if (habilitado) {
+      cache.put(mensagem.getId(), copiar(mensagem));
+    }
+  }
+
+  /**
+   * Substitui a cópia de uma mensagem já em cache, se a versão for mais nova. Ausente, a mensagem
+   * não volta ao cache: uma exclusão concorrente pode tê-la invalidado depois da escrita no banco.
+   */
+  public void substituir(Mensagem mensagem) {
+    if (habilitado) {
+      geracao.incrementAndGet();
+      cache.asMap().computeIfPresent(mensagem.getId(), (id, atual) ->
+          versao(atual) < versao(mensagem) ? copiar(mensagem) : atual);
+    }
+  }
+
+  public void invalidar(UUID id) {
+    geracao.incrementAndGet();
+    cache.invalidate(id);
+  }
+
+  private static long versao(Mensagem mensagem) {
+    return mensagem.getVersao() == null ? -1 : mensagem.getVersao();
+  }
+
+  private Mensagem copiar(Mensagem mensagem) {
+    return mensagem == null ? null : mensagem.toBuilder().build();
+  }
+}
@@ -0,0 +1,238 @@
+package org.example.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.example.dto.MensagemEvento;
+import org.example.dto.PaginaSerializada;
+import org.example.id.GeradorId;
+import org.example.model.Mensagem;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Primeiras páginas de {@code GET /mensagens}, servidas sem consultar o banco nem passar pelo
+ * Jackson. Guarda as mensagens mais recentes que cobrem {@code paginas} páginas do maior dos
+ * {@code tamanhos}, e o JSON de cada página é gerado uma vez por alteração. As mensagens criadas,
+ * alteradas e apagadas atualizam o início da listagem após o commit; uma exclusão dentro dele
+ * descarta o conjunto, recarregado na próxima requisição. Os gostei entram no momento da curtida,
+ * como na listagem a partir do banco, e por isso a descarga do {@link MensagemEvento.Tipo#GOSTEI}
+ * é ignorada.
+ */
+@Component
+public class PaginasRecentes {
+
+  private final boolean habilitado;
+
+  private final int paginas;
+
+  private final Set<Integer> tamanhos;
+
+  private final int capacidade;
+
+  private final long expiracao;
+
+  private final Comparator<Mensagem> ordem;
+
+  private final ObjectMapper objectMapper;
+
+  private final ReentrantLock carregamento = new ReentrantLock();
+
+  private final Counter acertos;
+
+  private final Counter faltas;
+
+  private volatile Cabeca cabeca;
+
+  // incrementada a cada alteração: uma carga concorrente com ela não é aproveitada
+  private volatile long geracao;
+
+  public PaginasRecentes(
+      @Value("${mensagem.paginas-recentes.habilitado:true}") boolean habilitado,
+      @Value("${mensagem.paginas-recentes.paginas:3}") int paginas,
+      @Value("${mensagem.paginas-recentes.tamanhos:10,20,50}") Set<Integer> tamanhos,
+      @Value("${mensagem.paginas-recentes.expiracao:5m}") Duration expiracao,
+      GeradorId geradorId,
+      ObjectMapper objectMapper,
+      MeterRegistry meterRegistry) {
+    this.habilitado = habilitado;
+    this.paginas = paginas;
+    this.tamanhos = Set.copyOf(tamanhos);
+    this.capacidade = paginas * tamanhos.stream().max(Integer::compare).orElse(0);
+    this.expiracao = expiracao.toNanos();
+    // a mesma ordem de MensagemService.listarMensagens
+    this.ordem = geradorId.ordenadoPorCriacao()
+        ? Comparator.comparing(Mensagem::getId).reversed()
+        : Comparator.comparing(Mensagem::getDataCriacao).reversed();
+    this.objectMapper = objectMapper;
+    this.acertos = contador(meterRegistry, "hit");
+    this.faltas = contador(meterRegistry, "miss");
+  }
+
+  /**
+   * Devolve a página serializada, ou vazio quando ela está fora das páginas mantidas; o
+   * {@code carregador} recebe uma única página com todas as mensagens mantidas.
+   */
+  public Optional<PaginaSerializada> buscar(
+      int page, int size, Function<Pageable, Page<Mensagem>> carregador) {
+    if (!habilitado || page < 0 || page >= paginas || !tamanhos.contains(size)) {
+      return Optional.empty();
+    }
+    var atual = cabeca;
+    if (atual == null || System.nanoTime() - atual.carregadaEm() > expiracao) {
+      faltas.increment();
+      atual = carregar(carregador);
+    } else {
+      acertos.increment();
+    }
+    var inicio = page * size;
+    if (inicio + size > atual.mensagens().size() && atual.mensagens().size() < atual.total()) {
+      return Optional.empty();
+    }
+    var cabecaAtual = atual;
+    return Optional.of(atual.serializadas().computeIfAbsent(PageRequest.of(page, size),
+        pageable -> serializar(cabecaAtual, pageable)));
+  }
+
+  public synchronized void gostei(UUID id) {
+    geracao++;
+    atualizarMensagem(id, mensagem ->
+        mensagem.toBuilder().gostei(mensagem.getGostei() + 1).build());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public synchronized void atualizar(MensagemEvento evento) {
+    geracao++;
+    switch (evento.getTipo()) {
+      case CRIADA -> criada(evento.getMensagem());
+      case ALTERADA -> atualizarMensagem(evento.getId(), mensagem -> evento.getMensagem()
+          .toBuilder().gostei(mensagem.getGostei()).build());
+      case APAGADA -> apagada(evento.getId());
+      default -> {
+        // GOSTEI: os incrementos descarregados já foram aplicados em gostei(id)
+      }
+    }
+  }
+
+  private Cabeca carregar(Function<Pageable, Page<Mensagem>> carregador) {
+    carregamento.lock();
+    try {
+      var atual = cabeca;
+      if (atual != null && System.nanoTime() - atual.carregadaEm() <= expiracao) {
+        return atual;
+      }
+      var geracaoInicial = geracao;
+      var pagina = carregador.apply(PageRequest.of(0, capacidade));
+      var carregada = new Cabeca(
+          copiar(pagina.getContent()), pagina.getTotalElements(), System.nanoTime());
+      synchronized (this) {
+        if (geracao == geracaoInicial) {
+          cabeca = carregada;
+        }
+      }
+      return carregada;
+    } finally {
+      carregamento.unlock();
+    }
+  }
+
+  private void criada(Mensagem mensagem) {
+    var atual = cabeca;
+    if (atual == null || atual.contem(mensagem.getId())) {
+      return;
+    }
+    List<Mensagem> mensagens = new ArrayList<>(atual.mensagens());
+    var posicao = 0;
+    while (posicao < mensagens.size() && ordem.compare(mensagens.get(posicao), mensagem) < 0) {
+      posicao++;
+    }
+    mensagens.add(posicao, mensagem.toBuilder().build());
+    if (mensagens.size() > capacidade) {
+      mensagens.remove(mensagens.size() - 1);
+    }
+    cabeca = new Cabeca(mensagens, atual.total() + 1, atual.carregadaEm());
+  }
+
+  private void apagada(UUID id) {
+    var atual = cabeca;
+    if (atual == null) {
+      return;
+    }
+    if (!atual.contem(id)) {
+      cabeca = new Cabeca(atual.mensagens(), Math.max(0, atual.total() - 1), atual.carregadaEm());
+    } else if (atual.mensagens().size() == atual.total()) {
+      cabeca = new Cabeca(
+          atual.mensagens().stream().filter(mensagem -> !mensagem.getId().equals(id)).toList(),
+          atual.total() - 1, atual.carregadaEm());
+    } else {
+      // a mensagem seguinte às mantidas não é conhecida: recarrega na próxima requisição
+      cabeca = null;
+    }
+  }
+
+  private void atualizarMensagem(UUID id, Function<Mensagem, Mensagem> alteracao) {
+    var atual = cabeca;
+    if (atual == null || !atual.contem(id)) {
+      return;
+    }
+    var mensagens = atual.mensagens().stream()
+        .map(mensagem -> mensagem.getId().equals(id) ? alteracao.apply(mensagem) : mensagem)
+        .toList();
+    cabeca = new Cabeca(mensagens, atual.total(), atual.carregadaEm());
+  }
+
+  private PaginaSerializada serializar(Cabeca cabeca, Pageable pageable) {
+    var inicio = (int) Math.min(pageable.getOffset(), cabeca.mensagens().size());
+    var fim = Math.min(inicio + pageable.getPageSize(), cabeca.mensagens().size());
+    var pagina = new PageImpl<>(cabeca.mensagens().subList(inicio, fim), pageable, cabeca.total());
+    try {
+      return new PaginaSerializada(pagina, objectMapper.writeValueAsBytes(pagina));
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("falha ao serializar página de mensagens", e);
+    }
+  }
+
+  private static List<Mensagem> copiar(List<Mensagem> mensagens) {
+    return mensagens.stream().map(mensagem -> mensagem.toBuilder().build()).toList();
+  }
+
+  private static Counter contador(MeterRegistry meterRegistry, String resultado) {
+    return Counter.builder("mensagem.paginas.recentes")
+        .description("requisições às páginas recentes atendidas sem (hit) e com (miss) consulta")
+        .tag("resultado", resultado)
+        .register(meterRegistry);
+  }
+
+  /**
+   * Mensagens mantidas, na ordem da listagem, e o total existente no banco. Imutável: cada
+   * alteração cria outra, com as páginas serializadas vazias.
+   */
+  private record Cabeca(List<Mensagem> mensagens, long total, long carregadaEm,
+      Map<Pageable, PaginaSerializada> serializadas) {
+
+    Cabeca(List<Mensagem> mensagens, long total, long carregadaEm) {
+      this(List.copyOf(mensagens), total, carregadaEm, new ConcurrentHashMap<>());
+    }
+
+    boolean contem(UUID id) {
+      return mensagens.stream().anyMatch(mensagem -> mensagem.getId().equals(id));
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package org.example.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.example.dto.MensagemCursor;
+import org.example.dto.MensagemEvento;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache das páginas de {@code /usuarios/{usuario}/mensagens}. Guarda apenas os IDs, na ordem da
+ * consulta: o conteúdo vem do {@link MensagemCache}, então edições e gostei não exigem invalidar a
+ * página. Uma mensagem criada invalida as páginas do autor; uma apagada, as páginas que a contêm.
+ */
+@Component
+public class TimelineCache {
+
+  private final boolean habilitado;
+
+  private final Cache<Chave, List<UUID>> cache;
+
+  public TimelineCache(
+      @Value("${mensagem.timeline.cache.habilitado:true}") boolean habilitado,
+      @Value("${mensagem.timeline.cache.tamanho-maximo:1000}") long tamanhoMaximo,
+      @Value("${mensagem.timeline.cache.expiracao:30s}") Duration expiracao,
+      MeterRegistry meterRegistry) {
+    this.habilitado = habilitado;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(tamanhoMaximo)
+        .expireAfterWrite(expiracao)
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "timelines");
+  }
+
+  public boolean habilitado() {
+    return habilitado;
+  }
+
+  public List<UUID> buscar(String usuario, MensagemCursor cursor, int tamanho,
+      Supplier<List<UUID>> carregador) {
+    if (!habilitado) {
+      return carregador.get();
+    }
+    return cache.get(new Chave(usuario, cursor, tamanho), chave -> List.copyOf(carregador.get()));
+  }
+
+  public void invalidar(String usuario) {
+    cache.asMap().keySet().removeIf(chave -> chave.usuario().equals(usuario));
+  }
+
+  @EventListener
+  public void atualizar(MensagemEvento evento) {
+    switch (evento.getTipo()) {
+      case CRIADA -> invalidar(evento.getMensagem().getUsuario());
+      case APAGADA -> cache.asMap().values().removeIf(ids -> ids.contains(evento.getId()));
+      default -> {
+        // ALTERADA e GOSTEI não mudam a ordem nem a composição das páginas
+      }
+    }
+  }
+
+  private record Chave(String usuario, MensagemCursor cursor, int tamanho) {
+  }
+}
@@ -0,0 +1,32 @@
+package org.example.config;
+
+import io.r2dbc.spi.ConnectionFactories;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * Ativa com o profile {@code reativo} ({@code spring.main.web-application-type=reactive}). O Tomcat
+ * continua no classpath por causa da stack servlet, então o Netty é declarado explicitamente para
+ * que as conexões sejam atendidas pelo event loop. O {@link DatabaseClient} acessa o mesmo banco H2
+ * em memória criado pelo JPA; a {@code ConnectionFactory} não é exposta como bean para que a
+ * autoconfiguração de R2DBC não substitua o gerenciador de transações nem as migrações do Flyway.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+public class ReativoConfig {
+
+  @Bean
+  NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+    return new NettyReactiveWebServerFactory();
+  }
+
+  @Bean
+  DatabaseClient databaseClient(@Value("${mensagem.reativo.url}") String url) {
+    return DatabaseClient.create(ConnectionFactories.get(url));
+  }
+}
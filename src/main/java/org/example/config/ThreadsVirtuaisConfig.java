@@ -0,0 +1,53 @@
+
+package org.example.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Ativa quando {@code spring.threads.virtual.enabled=true}: o Tomcat e os agendamentos passam a
+ * rodar em threads virtuais. O driver do H2 sincroniza em monitores, o que prende a thread virtual
+ * à sua carrier durante a chamada JDBC. Com um pool maior que o número de carriers, todas podem
+ * ficar presas em JDBC; por isso o pool é limitado a elas, e as demais requisições aguardam a
+ * conexão estacionadas no pool sem ocupar carriers. Com
+ * {@code mensagem.threads-virtuais.limitar-pool-conexoes=false} o tamanho configurado é mantido e
+ * apenas registrado um aviso.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ThreadsVirtuaisConfig {
+
+  @Bean
+  static BeanPostProcessor limitadorPoolConexoes(Environment environment) {
+    var limitar = environment.getProperty(
+        "mensagem.threads-virtuais.limitar-pool-conexoes", Boolean.class, true);
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource) {
+          var carriers = Integer.getInteger("jdk.virtualThreadScheduler.parallelism",
+              Runtime.getRuntime().availableProcessors());
+          if (dataSource.getMaximumPoolSize() <= carriers) {
+            return bean;
+          }
+          if (limitar) {
+            log.info("pool de conexões limitado às threads carrier: Tamanho={}, Configurado={}",
+                carriers, dataSource.getMaximumPoolSize());
+            dataSource.setMaximumPoolSize(carriers);
+          } else {
+            log.warn("pool de conexões maior que as threads carrier: Tamanho={}, Carriers={}",
+                dataSource.getMaximumPoolSize(), carriers);
+          }
+        }
+        return bean;
+      }
+    };
+  }
+}
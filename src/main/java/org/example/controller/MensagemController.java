@@ -5,12 +5,18 @@ import jakarta.validation.Valid;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.dto.MensagemCursor;
+import org.example.dto.MensagemPagina;
 import org.example.exception.MensagemNotFoundException;
+import org.example.log.PoliticaLog;
 import org.example.model.Mensagem;
 import org.example.service.MensagemService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -20,23 +26,34 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
 @RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
 @RequestMapping("/mensagens")
 @RequiredArgsConstructor
 public class MensagemController {
 
+  private static final int TAMANHO_MAXIMO_CURSOR = 100;
+
+  // a busca pagina por deslocamento sobre a ordem de relevância: páginas profundas custam caro
+  private static final int OCORRENCIAS_MAXIMAS_BUSCA = 1000;
+
   private final MensagemService mensagemService;
 
+  private final PoliticaLog politicaLog;
+
   @PostMapping(
       consumes = MediaType.APPLICATION_JSON_VALUE,
       produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<Mensagem> registrarMensagem(@Valid @RequestBody Mensagem mensagem) {
-    log.info("requisição para registrar mensagem foi efetuada");
+    if (politicaLog.registrar("registrar")) {
+      log.info("requisição para registrar mensagem foi efetuada");
+    }
     var mensagemCriada = mensagemService.criarMensagem(mensagem);
     return new ResponseEntity<>(mensagemCriada, HttpStatus.CREATED);
   }
@@ -45,11 +62,15 @@ public class MensagemController {
       value = "/{id}",
       produces = MediaType.APPLICATION_JSON_VALUE)
   public ResponseEntity<?> buscarMensagem(@PathVariable String id) {
-    log.info("requisição para buscar mensagem foi efetuada");
+    if (politicaLog.registrar("buscar")) {
+      log.info("requisição para buscar mensagem foi efetuada");
+    }
     try {
       var uuid = UUID.fromString(id);
       var mensagemEncontrada = mensagemService.buscarMensagem(uuid);
-      return new ResponseEntity<>(mensagemEncontrada, HttpStatus.OK);
+      // com If-None-Match atendido o Spring responde 304 sem serializar o corpo
+      return MensagemEtag.comValidadores(ResponseEntity.ok(), mensagemEncontrada)
+          .body(mensagemEncontrada);
     } catch (IllegalArgumentException e) {
       return ResponseEntity.badRequest().body("ID inválido");
     } catch (MensagemNotFoundException e) {
@@ -60,27 +81,116 @@ public class MensagemController {
 @GetMapping(
     value = "",
     produces = MediaType.APPLICATION_JSON_VALUE)
-public ResponseEntity<Page<Mensagem>> listarMensagens(
+public ResponseEntity<?> listarMensagens(
     @RequestParam(defaultValue = "0") int page,
     @RequestParam(defaultValue = "10") int size) {
   Pageable pageable = PageRequest.of(page, size);
-  log.info("requisição para listar mensagens foi efetuada: Página={}, Tamanho={}", page, size);
+  if (politicaLog.registrar("listar")) {
+    log.info("requisição para listar mensagens foi efetuada: Página={}, Tamanho={}", page, size);
+  }
+  var recente = mensagemService.listarMensagensRecentes(page, size);
+  if (recente.isPresent()) {
+    var pagina = recente.get().pagina();
+    return ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON)
+        .eTag(MensagemEtag.deLista(pagina.getContent(),
+            pagina.getNumber(), pagina.getSize(), pagina.getTotalElements()))
+        .body(recente.get().json());
+  }
   Page<Mensagem> mensagens = mensagemService.listarMensagens(pageable);
-  return new ResponseEntity<>(mensagens, HttpStatus.OK);
+  return ResponseEntity.ok()
+      .eTag(MensagemEtag.deLista(mensagens.getContent(),
+          mensagens.getNumber(), mensagens.getSize(), mensagens.getTotalElements()))
+      .body(mensagens);
 }
 
+  @GetMapping(
+      value = "/resumo",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<MensagemPagina> listarResumos(
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size) {
+    if (politicaLog.registrar("resumo")) {
+      log.info("requisição para listar resumos foi efetuada: Página={}, Tamanho={}", page, size);
+    }
+    var mensagens = mensagemService.listarResumos(PageRequest.of(page, size));
+    return ResponseEntity.ok()
+        .eTag(MensagemEtag.deResumos(mensagens.getContent(),
+            mensagens.getPage(), mensagens.getSize(), mensagens.getTotalElements()))
+        .body(mensagens);
+  }
+
+  @GetMapping(
+      value = "/cursor",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<?> listarMensagensPorCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size) {
+    if (politicaLog.registrar("cursor")) {
+      log.info("requisição para listar mensagens por cursor foi efetuada: Tamanho={}", size);
+    }
+    if (size < 1 || size > TAMANHO_MAXIMO_CURSOR) {
+      return ResponseEntity.badRequest().body("tamanho inválido");
+    }
+    try {
+      var mensagemCursor = cursor == null || cursor.isBlank()
+          ? null
+          : MensagemCursor.decodificar(cursor);
+      var mensagens = mensagemService.listarMensagensPorCursor(mensagemCursor, size);
+      return ResponseEntity.ok()
+          .eTag(MensagemEtag.deLista(mensagens.getContent(), size, mensagens.isHasNext() ? 1 : 0))
+          .body(mensagens);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body("cursor inválido");
+    }
+  }
+
+  @GetMapping(
+      value = "/busca",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<?> pesquisarMensagens(
+      @RequestParam(defaultValue = "") String q,
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size) {
+    if (politicaLog.registrar("pesquisar")) {
+      log.info("requisição para pesquisar mensagens foi efetuada: Página={}, Tamanho={}",
+          page, size);
+    }
+    if (q.isBlank()) {
+      return ResponseEntity.badRequest().body("consulta inválida");
+    }
+    if (size < 1 || size > TAMANHO_MAXIMO_CURSOR) {
+      return ResponseEntity.badRequest().body("tamanho inválido");
+    }
+    if (page < 0 || (page + 1L) * size > OCORRENCIAS_MAXIMAS_BUSCA) {
+      return ResponseEntity.badRequest().body("página inválida");
+    }
+    var mensagens = mensagemService.pesquisarMensagens(q, page, size);
+    return ResponseEntity.ok()
+        .eTag(MensagemEtag.deLista(mensagens.getContent(),
+            page, size, mensagens.getTotal(), mensagens.isHasNext() ? 1 : 0))
+        .body(mensagens);
+  }
+
 @PutMapping(
     value = "/{id}",
     consumes = MediaType.APPLICATION_JSON_VALUE,
     produces = MediaType.APPLICATION_JSON_VALUE)
 public ResponseEntity<?> atualizarMensagem(
     @PathVariable String id,
-    @RequestBody @Valid Mensagem mensagem) {
-  log.info("requisição para atualizar mensagem foi efetuada");
+    @RequestBody @Valid Mensagem mensagem,
+    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+  if (politicaLog.registrar("atualizar")) {
+    log.info("requisição para atualizar mensagem foi efetuada");
+  }
   try {
     var uuid = UUID.fromString(id);
+    if (ifMatch != null) {
+      mensagem.setVersao(MensagemEtag.versao(ifMatch));
+    }
     var mensagemAtualizada = mensagemService.alterarMensagem(uuid, mensagem);
-    return new ResponseEntity<>(mensagemAtualizada, HttpStatus.OK);
+    return MensagemEtag.comValidadores(ResponseEntity.ok(), mensagemAtualizada)
+        .body(mensagemAtualizada);
   } catch (IllegalArgumentException e) {
     return ResponseEntity.badRequest().body("ID inválido");
   } catch (MensagemNotFoundException e) {
@@ -90,7 +200,9 @@ public ResponseEntity<?> atualizarMensagem(
 
 @PutMapping("/{id}/gostei")
 public ResponseEntity<?> incrementarGostei(@PathVariable String id) {
-  log.info("requisição para incrementar gostei foi efetuada");
+  if (politicaLog.registrar("gostei")) {
+    log.info("requisição para incrementar gostei foi efetuada");
+  }
   try {
     var uuid = UUID.fromString(id);
     var mensagemAtualizada = mensagemService.incrementarGostei(uuid);
@@ -103,11 +215,15 @@ public ResponseEntity<?> incrementarGostei(@PathVariable String id) {
 }
 
 @DeleteMapping("/{id}")
-public ResponseEntity<?> apagarMensagem(@PathVariable String id) {
-  log.info("requisição para apagar mensagem foi efetuada");
+public ResponseEntity<?> apagarMensagem(
+    @PathVariable String id,
+    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+  if (politicaLog.registrar("apagar")) {
+    log.info("requisição para apagar mensagem foi efetuada");
+  }
   try {
     var uuid = UUID.fromString(id);
-    mensagemService.apagarMensagem(uuid);
+    mensagemService.apagarMensagem(uuid, ifMatch == null ? null : MensagemEtag.versao(ifMatch));
     return new ResponseEntity<>("mensagem removida", HttpStatus.OK);
   } catch (IllegalArgumentException e) {
     return ResponseEntity.badRequest().body("ID inválido");
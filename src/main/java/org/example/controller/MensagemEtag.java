@@ -0,0 +1,88 @@
+package org.example.controller;
+
+import java.util.List;
+import java.util.UUID;
+import org.example.dto.MensagemResumo;
+import org.example.model.Mensagem;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Validadores HTTP das mensagens. O ETag forte combina a {@code versao} com o total de gostei, que
+ * muda sem incrementar a versão nem {@code dataAlteracao}; por isso não há {@code Last-Modified},
+ * que validaria com 304 uma mensagem já curtida. No {@code If-Match} só a versão é comparada: um
+ * gostei recebido no intervalo não invalida a edição. Listagens recebem ETag fraco, calculado sobre
+ * os validadores de cada item da página.
+ */
+final class MensagemEtag {
+
+  // nunca coincide com uma versão gravada: If-Match malformado resulta em falha de pré-condição
+  private static final long VERSAO_INVALIDA = -1;
+
+  private MensagemEtag() {
+  }
+
+  static String de(Mensagem mensagem) {
+    return "\"" + Long.toHexString(versaoDe(mensagem))
+        + "-" + Integer.toHexString(mensagem.getGostei()) + "\"";
+  }
+
+  static String deLista(List<Mensagem> mensagens, long... complementos) {
+    var hash = 1L;
+    for (var mensagem : mensagens) {
+      hash = combinar(hash, mensagem.getId(), versaoDe(mensagem), mensagem.getGostei());
+    }
+    return fraco(hash, complementos);
+  }
+
+  static String deResumos(List<MensagemResumo> resumos, long... complementos) {
+    var hash = 1L;
+    for (var resumo : resumos) {
+      hash = combinar(hash, resumo.id(), resumo.versao() == null ? 0 : resumo.versao(),
+          resumo.gostei());
+    }
+    return fraco(hash, complementos);
+  }
+
+  /**
+   * Extrai a versão esperada de um {@code If-Match}; {@code *} aceita qualquer versão e devolve
+   * {@code null}.
+   */
+  static Long versao(String ifMatch) {
+    var valor = ifMatch.trim();
+    if ("*".equals(valor)) {
+      return null;
+    }
+    var separador = valor.indexOf('-');
+    if (!valor.startsWith("\"") || !valor.endsWith("\"") || separador < 2) {
+      return VERSAO_INVALIDA;
+    }
+    try {
+      return Long.parseLong(valor.substring(1, separador), 16);
+    } catch (NumberFormatException e) {
+      return VERSAO_INVALIDA;
+    }
+  }
+
+  static ResponseEntity.BodyBuilder comValidadores(
+      ResponseEntity.BodyBuilder resposta, Mensagem mensagem) {
+    return resposta.eTag(de(mensagem));
+  }
+
+  private static long combinar(long hash, UUID id, long versao, int gostei) {
+    hash = 31 * hash + id.getMostSignificantBits();
+    hash = 31 * hash + id.getLeastSignificantBits();
+    hash = 31 * hash + versao;
+    return 31 * hash + gostei;
+  }
+
+  private static String fraco(long hash, long... complementos) {
+    for (var complemento : complementos) {
+      hash = 31 * hash + complemento;
+    }
+    return "W/\"" + Long.toHexString(hash) + "\"";
+  }
+
+  private static long versaoDe(Mensagem mensagem) {
+    return mensagem.getVersao() == null ? 0 : mensagem.getVersao();
+  }
+}
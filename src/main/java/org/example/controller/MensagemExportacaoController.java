@@ -0,0 +1,80 @@
+package org.example.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.service.MensagemExportacaoService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequestMapping("/mensagens/export")
+@RequiredArgsConstructor
+public class MensagemExportacaoController {
+
+  private static final int TAMANHO_BUFFER_GZIP = 8 * 1024;
+
+  private final MensagemExportacaoService mensagemExportacaoService;
+
+  private final ObjectMapper objectMapper;
+
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportarMensagens(
+      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+    var gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+    log.info("requisição para exportar mensagens foi efetuada: Gzip={}", gzip);
+    var resposta = ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename("mensagens.ndjson").build().toString());
+    if (!gzip) {
+      return resposta.body(this::escrever);
+    }
+    return resposta
+        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+        .body(saida -> {
+          var saidaCompactada = new GZIPOutputStream(saida, TAMANHO_BUFFER_GZIP);
+          escrever(saidaCompactada);
+          saidaCompactada.finish();
+        });
+  }
+
+  private void escrever(OutputStream saida) throws IOException {
+    var escritor = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    // o gerador acumula as linhas no próprio buffer e não fecha a saída da resposta
+    try (var gerador = objectMapper.getFactory().createGenerator(saida)
+        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        .setRootValueSeparator(null)) {
+      var total = mensagemExportacaoService.exportarMensagens(mensagem -> {
+        try {
+          escritor.writeValue(gerador, mensagem);
+          gerador.writeRaw('\n');
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+      log.info("exportação de mensagens concluída: Total={}", total);
+    } catch (UncheckedIOException e) {
+      log.warn("exportação de mensagens interrompida: {}", e.getCause().getMessage());
+      throw e.getCause();
+    }
+  }
+}
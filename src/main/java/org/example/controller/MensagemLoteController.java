@@ -0,0 +1,73 @@
+
+package org.example.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.ResultadoLote;
+import org.example.model.Mensagem;
+import org.example.service.MensagemLoteService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequestMapping("/mensagens/lote")
+@RequiredArgsConstructor
+public class MensagemLoteController {
+
+  private final MensagemLoteService mensagemLoteService;
+
+  private final ObjectMapper objectMapper;
+
+  @PostMapping(
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<ResultadoLote> registrarMensagens(@RequestBody List<Mensagem> mensagens) {
+    log.info("requisição para registrar lote de mensagens foi efetuada: Tamanho={}",
+        mensagens.size());
+    var resultado = mensagemLoteService.criarMensagens(mensagens.iterator());
+    return new ResponseEntity<>(resultado, statusDo(resultado));
+  }
+
+  @PostMapping(
+      consumes = MediaType.APPLICATION_NDJSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<ResultadoLote> registrarMensagensNdjson(InputStream corpo) {
+    log.info("requisição para registrar lote de mensagens (ndjson) foi efetuada");
+    var leitor = new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8));
+    // cada linha é lida e persistida sob demanda, sem carregar o corpo inteiro em memória
+    var mensagens = leitor.lines()
+        .filter(linha -> !linha.isBlank())
+        .map(this::lerMensagem)
+        .iterator();
+    var resultado = mensagemLoteService.criarMensagens(mensagens);
+    return new ResponseEntity<>(resultado, statusDo(resultado));
+  }
+
+  private Mensagem lerMensagem(String linha) {
+    try {
+      return objectMapper.readValue(linha, Mensagem.class);
+    } catch (JsonProcessingException e) {
+      return null;
+    }
+  }
+
+  private HttpStatus statusDo(ResultadoLote resultado) {
+    return resultado.getRejeitadas() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+  }
+}
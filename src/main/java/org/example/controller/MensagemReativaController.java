@@ -0,0 +1,154 @@
+package org.example.controller;
+
+import jakarta.validation.Valid;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.ConflitoResponse;
+import org.example.dto.MensagemCursor;
+import org.example.exception.MensagemConflitoException;
+import org.example.exception.MensagemNotFoundException;
+import org.example.model.Mensagem;
+import org.example.service.MensagemReativaService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mesmas rotas e payloads do {@link MensagemController}, servidas pelo WebFlux quando a aplicação
+ * sobe com o profile {@code reativo}.
+ */
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequestMapping("/mensagens")
+@RequiredArgsConstructor
+public class MensagemReativaController {
+
+  private static final int TAMANHO_MAXIMO_CURSOR = 100;
+
+  private final MensagemReativaService mensagemService;
+
+  @PostMapping(
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<Mensagem>> registrarMensagem(
+      @Valid @RequestBody Mensagem mensagem) {
+    log.info("requisição para registrar mensagem foi efetuada");
+    return mensagemService.criarMensagem(mensagem)
+        .map(mensagemCriada -> new ResponseEntity<>(mensagemCriada, HttpStatus.CREATED));
+  }
+
+  @GetMapping(
+      value = "/{id}",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<?>> buscarMensagem(@PathVariable String id) {
+    log.info("requisição para buscar mensagem foi efetuada");
+    return tratarErros(converterId(id)
+        .flatMap(mensagemService::buscarMensagem)
+        .<ResponseEntity<?>>map(ResponseEntity::ok));
+  }
+
+  @GetMapping(
+      value = "",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<Page<Mensagem>>> listarMensagens(
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size) {
+    var pageable = PageRequest.of(page, size);
+    log.info("requisição para listar mensagens foi efetuada: Página={}, Tamanho={}", page, size);
+    return mensagemService.listarMensagens(pageable)
+        .map(ResponseEntity::ok);
+  }
+
+  @GetMapping(
+      value = "/cursor",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<?>> listarMensagensPorCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size) {
+    log.info("requisição para listar mensagens por cursor foi efetuada: Tamanho={}", size);
+    if (size < 1 || size > TAMANHO_MAXIMO_CURSOR) {
+      return Mono.just(ResponseEntity.badRequest().body("tamanho inválido"));
+    }
+    MensagemCursor mensagemCursor;
+    try {
+      mensagemCursor = cursor == null || cursor.isBlank()
+          ? null
+          : MensagemCursor.decodificar(cursor);
+    } catch (IllegalArgumentException e) {
+      return Mono.just(ResponseEntity.badRequest().body("cursor inválido"));
+    }
+    return mensagemService.listarMensagensPorCursor(mensagemCursor, size)
+        .<ResponseEntity<?>>map(ResponseEntity::ok);
+  }
+
+  @PutMapping(
+      value = "/{id}",
+      consumes = MediaType.APPLICATION_JSON_VALUE,
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public Mono<ResponseEntity<?>> atualizarMensagem(
+      @PathVariable String id,
+      @RequestBody @Valid Mensagem mensagem,
+      @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+    log.info("requisição para atualizar mensagem foi efetuada");
+    if (ifMatch != null) {
+      mensagem.setVersao(MensagemEtag.versao(ifMatch));
+    }
+    // a versão esperada veio do If-Match: a falha é de pré-condição, não de conteúdo
+    var statusConflito = ifMatch == null ? HttpStatus.CONFLICT : HttpStatus.PRECONDITION_FAILED;
+    return tratarErros(converterId(id)
+        .flatMap(uuid -> mensagemService.alterarMensagem(uuid, mensagem))
+        .<ResponseEntity<?>>map(ResponseEntity::ok)
+        .onErrorResume(MensagemConflitoException.class, e -> Mono.just(ResponseEntity
+            .status(statusConflito)
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(new ConflitoResponse(e.getMessage(), e.getVersaoInformada(),
+                e.getMensagemAtual().getVersao(), e.getMensagemAtual())))));
+  }
+
+  @PutMapping("/{id}/gostei")
+  public Mono<ResponseEntity<?>> incrementarGostei(@PathVariable String id) {
+    log.info("requisição para incrementar gostei foi efetuada");
+    return tratarErros(converterId(id)
+        .flatMap(mensagemService::incrementarGostei)
+        .<ResponseEntity<?>>map(ResponseEntity::ok));
+  }
+
+  @DeleteMapping("/{id}")
+  public Mono<ResponseEntity<?>> apagarMensagem(@PathVariable String id) {
+    log.info("requisição para apagar mensagem foi efetuada");
+    return tratarErros(converterId(id)
+        .flatMap(mensagemService::apagarMensagem)
+        .<ResponseEntity<?>>map(apagada ->
+            new ResponseEntity<>("mensagem removida", HttpStatus.OK)));
+  }
+
+  private static Mono<UUID> converterId(String id) {
+    return Mono.fromCallable(() -> UUID.fromString(id));
+  }
+
+  private static Mono<ResponseEntity<?>> tratarErros(Mono<ResponseEntity<?>> resposta) {
+    return resposta
+        .onErrorResume(IllegalArgumentException.class,
+            e -> Mono.just(ResponseEntity.badRequest().body("ID inválido")))
+        .onErrorResume(MensagemNotFoundException.class,
+            e -> Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage())));
+  }
+}
@@ -0,0 +1,31 @@
+package org.example.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.stream.MensagemFeed;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequestMapping("/mensagens/stream")
+@RequiredArgsConstructor
+public class MensagemStreamController {
+
+  private final MensagemFeed mensagemFeed;
+
+  @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter acompanharMensagens(
+      @RequestHeader(value = "Last-Event-ID", required = false) String ultimoEventoId) {
+    log.info("requisição para acompanhar mensagens foi efetuada: Last-Event-ID={}",
+        ultimoEventoId);
+    return mensagemFeed.assinar(ultimoEventoId);
+  }
+}
@@ -0,0 +1,51 @@
+package org.example.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.MensagemCursor;
+import org.example.service.MensagemService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequestMapping("/usuarios")
+@RequiredArgsConstructor
+public class MensagemUsuarioController {
+
+  private static final int TAMANHO_MAXIMO_CURSOR = 100;
+
+  private final MensagemService mensagemService;
+
+  @GetMapping(
+      value = "/{usuario}/mensagens",
+      produces = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<?> listarMensagensDoUsuario(
+      @PathVariable String usuario,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size) {
+    log.info("requisição para listar mensagens do usuário foi efetuada: Tamanho={}", size);
+    if (size < 1 || size > TAMANHO_MAXIMO_CURSOR) {
+      return ResponseEntity.badRequest().body("tamanho inválido");
+    }
+    try {
+      var mensagemCursor = cursor == null || cursor.isBlank()
+          ? null
+          : MensagemCursor.decodificar(cursor);
+      var mensagens = mensagemService.listarMensagensDoUsuario(usuario, mensagemCursor, size);
+      return ResponseEntity.ok()
+          .eTag(MensagemEtag.deLista(mensagens.getContent(), size, mensagens.isHasNext() ? 1 : 0))
+          .body(mensagens);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body("cursor inválido");
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package org.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.example.model.Mensagem;
+
+@Data
+@AllArgsConstructor
+public class ConflitoResponse {
+  private String message;
+  private Long versaoInformada;
+  private Long versaoAtual;
+  private Mensagem mensagemAtual;
+}
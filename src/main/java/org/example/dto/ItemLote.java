@@ -0,0 +1,30 @@
+
+package org.example.dto;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ItemLote {
+
+  public enum Status {
+    CRIADA,
+    REJEITADA
+  }
+
+  private int indice;
+  private Status status;
+  private UUID id;
+  private List<String> erros;
+
+  public static ItemLote criada(int indice, UUID id) {
+    return new ItemLote(indice, Status.CRIADA, id, List.of());
+  }
+
+  public static ItemLote rejeitada(int indice, List<String> erros) {
+    return new ItemLote(indice, Status.REJEITADA, null, erros);
+  }
+}
@@ -0,0 +1,30 @@
+package org.example.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.example.model.Mensagem;
+
+/**
+ * Página de resultados de {@code /mensagens/busca}, em ordem de relevância. {@code total} é exato
+ * até mil ocorrências; acima disso é um limite inferior.
+ */
+@Data
+@AllArgsConstructor
+public class MensagemBusca {
+  private List<Mensagem> content;
+  private int page;
+  private int size;
+  private boolean hasNext;
+  private long total;
+
+  /**
+   * Monta a página a partir de uma busca que trouxe {@code size + 1} ocorrências: a excedente
+   * apenas indica que existe uma próxima página.
+   */
+  public static MensagemBusca de(List<Mensagem> mensagens, int page, int size, long total) {
+    var hasNext = mensagens.size() > size;
+    var content = hasNext ? mensagens.subList(0, size) : mensagens;
+    return new MensagemBusca(content, page, size, hasNext, total);
+  }
+}
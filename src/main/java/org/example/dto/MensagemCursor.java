@@ -0,0 +1,46 @@
+
+package org.example.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.example.model.Mensagem;
+
+@Data
+@AllArgsConstructor
+public class MensagemCursor {
+
+  private static final String SEPARADOR = "|";
+
+  private LocalDateTime dataCriacao;
+  private UUID id;
+
+  public static MensagemCursor de(Mensagem mensagem) {
+    return new MensagemCursor(mensagem.getDataCriacao(), mensagem.getId());
+  }
+
+  public String codificar() {
+    var valor = dataCriacao + SEPARADOR + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static MensagemCursor decodificar(String cursor) {
+    try {
+      var valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      var separador = valor.indexOf(SEPARADOR);
+      if (separador < 0) {
+        throw new IllegalArgumentException("cursor inválido");
+      }
+      return new MensagemCursor(
+          LocalDateTime.parse(valor.substring(0, separador)),
+          UUID.fromString(valor.substring(separador + 1)));
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("cursor inválido", e);
+    }
+  }
+}
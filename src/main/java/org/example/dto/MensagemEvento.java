@@ -0,0 +1,45 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.example.model.Mensagem;
+
+/**
+ * Alteração efetivada em uma mensagem. Em {@code GOSTEI} apenas o incremento descarregado é
+ * informado; em {@code APAGADA} somente o ID.
+ */
+@Data
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MensagemEvento {
+
+  public enum Tipo {
+    CRIADA,
+    ALTERADA,
+    GOSTEI,
+    APAGADA
+  }
+
+  private Tipo tipo;
+  private UUID id;
+  private Mensagem mensagem;
+  private Long incremento;
+
+  public static MensagemEvento criada(Mensagem mensagem) {
+    return new MensagemEvento(Tipo.CRIADA, mensagem.getId(), mensagem.toBuilder().build(), null);
+  }
+
+  public static MensagemEvento alterada(Mensagem mensagem) {
+    return new MensagemEvento(Tipo.ALTERADA, mensagem.getId(), mensagem.toBuilder().build(), null);
+  }
+
+  public static MensagemEvento gostei(UUID id, long incremento) {
+    return new MensagemEvento(Tipo.GOSTEI, id, null, incremento);
+  }
+
+  public static MensagemEvento apagada(UUID id) {
+    return new MensagemEvento(Tipo.APAGADA, id, null, null);
+  }
+}
@@ -0,0 +1,25 @@
+package org.example.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.data.domain.Page;
+
+/**
+ * Envelope enxuto de uma página de {@link MensagemResumo}: apenas o conteúdo e os números da
+ * paginação, sem os objetos {@code Pageable} e {@code Sort} que o {@code PageImpl} serializa.
+ */
+@Data
+@AllArgsConstructor
+public class MensagemPagina {
+  private List<MensagemResumo> content;
+  private int page;
+  private int size;
+  private long totalElements;
+  private boolean hasNext;
+
+  public static MensagemPagina de(Page<MensagemResumo> pagina) {
+    return new MensagemPagina(pagina.getContent(), pagina.getNumber(), pagina.getSize(),
+        pagina.getTotalElements(), pagina.hasNext());
+  }
+}
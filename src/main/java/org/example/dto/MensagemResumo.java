@@ -0,0 +1,24 @@
+package org.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção somente leitura de uma mensagem, montada direto do resultado da consulta: sem entidade
+ * gerenciada, sem snapshot para dirty checking e sem nada a descarregar no fim da transação. Os
+ * campos e o formato das datas são os mesmos de {@code Mensagem}.
+ */
+public record MensagemResumo(
+    UUID id,
+    String usuario,
+    String conteudo,
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSSSS") LocalDateTime dataCriacao,
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSSSS") LocalDateTime dataAlteracao,
+    int gostei,
+    Long versao) {
+
+  public MensagemResumo comGostei(int gostei) {
+    return new MensagemResumo(id, usuario, conteudo, dataCriacao, dataAlteracao, gostei, versao);
+  }
+}
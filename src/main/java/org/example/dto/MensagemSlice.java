@@ -0,0 +1,29 @@
+
+package org.example.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.example.model.Mensagem;
+
+@Data
+@AllArgsConstructor
+public class MensagemSlice {
+  private List<Mensagem> content;
+  private int size;
+  private boolean hasNext;
+  private String nextCursor;
+
+  /**
+   * Monta a fatia a partir de uma consulta que buscou {@code size + 1} registros: o registro
+   * excedente apenas indica que existe uma próxima página.
+   */
+  public static MensagemSlice de(List<Mensagem> mensagens, int size) {
+    var hasNext = mensagens.size() > size;
+    var content = hasNext ? mensagens.subList(0, size) : mensagens;
+    var nextCursor = hasNext
+        ? MensagemCursor.de(content.get(content.size() - 1)).codificar()
+        : null;
+    return new MensagemSlice(content, size, hasNext, nextCursor);
+  }
+}
@@ -0,0 +1,10 @@
+package org.example.dto;
+
+import org.example.model.Mensagem;
+import org.springframework.data.domain.Page;
+
+/**
+ * Página de mensagens já serializada em JSON, acompanhada do conteúdo para o cálculo do ETag.
+ */
+public record PaginaSerializada(Page<Mensagem> pagina, byte[] json) {
+}
@@ -0,0 +1,22 @@
+
+package org.example.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ResultadoLote {
+  private int total;
+  private int criadas;
+  private int rejeitadas;
+  private List<ItemLote> itens;
+
+  public static ResultadoLote de(List<ItemLote> itens) {
+    var criadas = (int) itens.stream()
+        .filter(item -> item.getStatus() == ItemLote.Status.CRIADA)
+        .count();
+    return new ResultadoLote(itens.size(), criadas, itens.size() - criadas, itens);
+  }
+}
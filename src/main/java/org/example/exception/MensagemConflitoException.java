@@ -0,0 +1,19 @@
+package org.example.exception;
+
+import lombok.Getter;
+import org.example.model.Mensagem;
+
+@Getter
+public class MensagemConflitoException extends RuntimeException {
+
+  private final transient Mensagem mensagemAtual;
+
+  private final Long versaoInformada;
+
+  public MensagemConflitoException(Mensagem mensagemAtual, Long versaoInformada) {
+    super("mensagem foi alterada por outra requisição");
+    this.mensagemAtual = mensagemAtual;
+    this.versaoInformada = versaoInformada;
+  }
+
+}
@@ -4,7 +4,10 @@ package org.example.handler;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import org.example.dto.ConflitoResponse;
 import org.example.dto.ErrorResponse;
+import org.example.exception.MensagemConflitoException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -12,6 +15,8 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.context.request.WebRequest;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -19,8 +24,33 @@ public class GlobalExceptionHandler {
   @ExceptionHandler(MethodArgumentNotValidException.class)
   public ResponseEntity<ErrorResponse> handleMethodArgumentNotValidException(
       MethodArgumentNotValidException ex) {
+    return validationError(ex.getBindingResult().getFieldErrors());
+  }
+
+  @ExceptionHandler(WebExchangeBindException.class)
+  public ResponseEntity<ErrorResponse> handleWebExchangeBindException(
+      WebExchangeBindException ex) {
+    return validationError(ex.getFieldErrors());
+  }
+
+  @ExceptionHandler(MensagemConflitoException.class)
+  public ResponseEntity<ConflitoResponse> handleMensagemConflitoException(
+      MensagemConflitoException ex, WebRequest request) {
+    // a versão esperada veio do If-Match: a falha é de pré-condição, não de conteúdo
+    var status = request.getHeader(HttpHeaders.IF_MATCH) == null
+        ? HttpStatus.CONFLICT
+        : HttpStatus.PRECONDITION_FAILED;
+    var conflitoResponse = new ConflitoResponse(ex.getMessage(), ex.getVersaoInformada(),
+        ex.getMensagemAtual().getVersao(), ex.getMensagemAtual());
+    return ResponseEntity
+        .status(status)
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(conflitoResponse);
+  }
+
+  private ResponseEntity<ErrorResponse> validationError(List<FieldError> fieldErrors) {
     List<String> errors = new ArrayList<>();
-    for (FieldError error : ex.getBindingResult().getFieldErrors()) {
+    for (FieldError error : fieldErrors) {
       errors.add(error.getDefaultMessage());
     }
     Collections.sort(errors);
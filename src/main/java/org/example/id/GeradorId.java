@@ -0,0 +1,17 @@
+package org.example.id;
+
+import java.util.UUID;
+
+/**
+ * Estratégia de geração dos IDs das mensagens, escolhida por {@code mensagem.id.estrategia}.
+ */
+public interface GeradorId {
+
+  UUID gerar();
+
+  /**
+   * Indica se os IDs crescem com o instante de criação, permitindo ordenar a listagem pela chave
+   * primária em vez de {@code dataCriacao}.
+   */
+  boolean ordenadoPorCriacao();
+}
@@ -0,0 +1,24 @@
+package org.example.id;
+
+import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * UUID versão 4: totalmente aleatório, espalha as inserções por todo o índice da chave primária.
+ */
+@Component
+@ConditionalOnProperty(name = "mensagem.id.estrategia", havingValue = "aleatorio",
+    matchIfMissing = true)
+public class GeradorIdAleatorio implements GeradorId {
+
+  @Override
+  public UUID gerar() {
+    return UUID.randomUUID();
+  }
+
+  @Override
+  public boolean ordenadoPorCriacao() {
+    return false;
+  }
+}
@@ -0,0 +1,59 @@
+package org.example.id;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * UUID versão 7 (RFC 9562): 48 bits de epoch em milissegundos seguidos de um contador de 12 bits
+ * no campo {@code rand_a} e 62 bits aleatórios. Timestamp e contador avançam juntos num único
+ * {@link AtomicLong} via CAS, então os IDs são estritamente crescentes entre threads sem bloqueio;
+ * ao esgotar o contador no mesmo milissegundo, ou se o relógio voltar, o timestamp é adiantado.
+ */
+@Component
+@ConditionalOnProperty(name = "mensagem.id.estrategia", havingValue = "temporal")
+public class GeradorIdTemporal implements GeradorId {
+
+  private static final int BITS_CONTADOR = 12;
+
+  private static final long MASCARA_CONTADOR = (1L << BITS_CONTADOR) - 1;
+
+  private static final long VERSAO = 7L << BITS_CONTADOR;
+
+  private static final long VARIANTE = 0x8000000000000000L;
+
+  private static final long MASCARA_ALEATORIO = 0x3FFFFFFFFFFFFFFFL;
+
+  private final LongSupplier relogio;
+
+  // timestamp em ms deslocado de BITS_CONTADOR, somado ao contador do milissegundo
+  private final AtomicLong ultimo = new AtomicLong();
+
+  public GeradorIdTemporal() {
+    this(System::currentTimeMillis);
+  }
+
+  GeradorIdTemporal(LongSupplier relogio) {
+    this.relogio = relogio;
+  }
+
+  @Override
+  public UUID gerar() {
+    var agora = relogio.getAsLong() << BITS_CONTADOR;
+    var proximo = ultimo.updateAndGet(anterior -> agora > anterior ? agora : anterior + 1);
+    var maisSignificativos = ((proximo >>> BITS_CONTADOR) << 16)
+        | VERSAO
+        | (proximo & MASCARA_CONTADOR);
+    var menosSignificativos = (ThreadLocalRandom.current().nextLong() & MASCARA_ALEATORIO)
+        | VARIANTE;
+    return new UUID(maisSignificativos, menosSignificativos);
+  }
+
+  @Override
+  public boolean ordenadoPorCriacao() {
+    return true;
+  }
+}
@@ -0,0 +1,146 @@
+package org.example.log;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decide quais requisições geram linha de log, por operação: primeiro por amostragem (fração das
+ * requisições registradas) e depois por um balde de tokens que limita as linhas por segundo. Toda
+ * requisição é contabilizada, registrada ou não, e a cada {@code intervalo-resumo} um resumo por
+ * operação informa o total. As regras podem ser alteradas em execução pelo endpoint
+ * {@code politicalog} do Actuator.
+ */
+@Slf4j
+@Component
+public class PoliticaLog {
+
+  // operações registradas por MensagemController; o endpoint só aceita regras para elas
+  public static final Set<String> OPERACOES = Set.of(
+      "registrar", "buscar", "listar", "resumo", "cursor", "pesquisar", "atualizar", "gostei",
+      "apagar");
+
+  private final Regra regraPadrao;
+
+  private final long intervaloResumo;
+
+  private final Map<String, Operacao> operacoes = new ConcurrentHashMap<>();
+
+  public PoliticaLog(
+      @Value("${mensagem.log.politica.amostragem:1.0}") double amostragem,
+      @Value("${mensagem.log.politica.limite-por-segundo:0}") double limitePorSegundo,
+      @Value("${mensagem.log.politica.intervalo-resumo:10000}") long intervaloResumo) {
+    this.regraPadrao = new Regra(amostragem, limitePorSegundo);
+    this.intervaloResumo = intervaloResumo;
+  }
+
+  /**
+   * Contabiliza uma requisição da operação e indica se a linha de log correspondente deve ser
+   * escrita.
+   */
+  public boolean registrar(String operacao) {
+    var estado = operacao(operacao);
+    estado.requisicoes.increment();
+    if (!estado.permitir()) {
+      return false;
+    }
+    estado.registradas.increment();
+    return true;
+  }
+
+  public Regra regraPadrao() {
+    return regraPadrao;
+  }
+
+  public Map<String, Regra> regras() {
+    Map<String, Regra> regras = new TreeMap<>();
+    operacoes.forEach((operacao, estado) -> regras.put(operacao, estado.regra));
+    return regras;
+  }
+
+  public void configurar(String operacao, Regra regra) {
+    operacao(operacao).configurar(regra);
+  }
+
+  public void restaurar(String operacao) {
+    configurar(operacao, regraPadrao);
+  }
+
+  @Scheduled(fixedRateString = "${mensagem.log.politica.intervalo-resumo:10000}")
+  public void resumir() {
+    operacoes.forEach((operacao, estado) -> {
+      var requisicoes = estado.requisicoes.sumThenReset();
+      var registradas = estado.registradas.sumThenReset();
+      if (requisicoes > 0) {
+        log.info("{} requisições de {} nos últimos {}s, {} registradas",
+            requisicoes, operacao, intervaloResumo / 1000, registradas);
+      }
+    });
+  }
+
+  private Operacao operacao(String operacao) {
+    return operacoes.computeIfAbsent(operacao, chave -> new Operacao(regraPadrao));
+  }
+
+  /**
+   * {@code amostragem} entre 0 e 1; {@code limitePorSegundo} zero dispensa o limite.
+   */
+  public record Regra(double amostragem, double limitePorSegundo) {
+  }
+
+  private static final class Operacao {
+
+    private final LongAdder requisicoes = new LongAdder();
+
+    private final LongAdder registradas = new LongAdder();
+
+    private volatile Regra regra;
+
+    private double tokens;
+
+    private long ultimaRecarga;
+
+    Operacao(Regra regra) {
+      configurar(regra);
+    }
+
+    boolean permitir() {
+      var regraAtual = regra;
+      if (regraAtual.amostragem() < 1
+          && ThreadLocalRandom.current().nextDouble() >= regraAtual.amostragem()) {
+        return false;
+      }
+      return regraAtual.limitePorSegundo() <= 0 || consumir(regraAtual.limitePorSegundo());
+    }
+
+    synchronized void configurar(Regra regra) {
+      this.regra = regra;
+      this.tokens = capacidade(regra.limitePorSegundo());
+      this.ultimaRecarga = System.nanoTime();
+    }
+
+    // o balde comporta um segundo de linhas, e ao menos uma
+    private synchronized boolean consumir(double limitePorSegundo) {
+      var agora = System.nanoTime();
+      tokens = Math.min(capacidade(limitePorSegundo),
+          tokens + (agora - ultimaRecarga) * limitePorSegundo / 1_000_000_000);
+      ultimaRecarga = agora;
+      if (tokens < 1) {
+        return false;
+      }
+      tokens--;
+      return true;
+    }
+
+    private static double capacidade(double limitePorSegundo) {
+      return Math.max(1, limitePorSegundo);
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package org.example.metrica;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Registra em {@link LatenciaRotas} o tempo de cada requisição às rotas de mensagens, pelo padrão
+ * da rota ({@code /mensagens/{id}}) e não pela URI, para que os IDs não multipliquem as séries.
+ * Requisições assíncronas (stream SSE) ficam de fora: a duração delas é a da assinatura.
+ */
+@Component
+@ConditionalOnWebApplication(type = Type.SERVLET)
+@RequiredArgsConstructor
+public class LatenciaFiltro extends OncePerRequestFilter {
+
+  private final LatenciaRotas latenciaRotas;
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    var inicio = System.nanoTime();
+    var falhou = true;
+    try {
+      filterChain.doFilter(request, response);
+      falhou = false;
+    } finally {
+      var rota = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      if (rota instanceof String padrao && padrao.contains("/mensagens")
+          && !request.isAsyncStarted()) {
+        latenciaRotas.registrar(request.getMethod(), padrao,
+            falhou ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(),
+            System.nanoTime() - inicio);
+      }
+    }
+  }
+}
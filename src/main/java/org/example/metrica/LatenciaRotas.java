@@ -0,0 +1,185 @@
+package org.example.metrica;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Histogramas de latência por método, rota e status HTTP, em janelas móveis de 1, 5 e 15 minutos.
+ * Cada combinação tem um {@link Recorder} do HdrHistogram: o registro é lock-free e não aloca
+ * memória, com a faixa de valores fixa (1µs a 60s, dois dígitos significativos). A cada
+ * {@code intervalo} o histograma corrente é fechado em um anel que cobre a maior janela; as janelas
+ * somam os intervalos fechados mais recentes.
+ */
+@Component
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class LatenciaRotas {
+
+  static final long LATENCIA_MAXIMA_US = TimeUnit.SECONDS.toMicros(60);
+
+  private static final int DIGITOS_SIGNIFICATIVOS = 2;
+
+  private static final Map<String, Long> JANELAS = janelas();
+
+  private static final Map<String, Double> PERCENTIS = percentis();
+
+  private final Map<String, Map<String, Rota>> rotas = new ConcurrentHashMap<>();
+
+  private final Map<String, Integer> intervalosPorJanela = new LinkedHashMap<>();
+
+  private final int intervalos;
+
+  public LatenciaRotas(@Value("${mensagem.latencia.intervalo:20000}") long intervalo) {
+    JANELAS.forEach((janela, duracao) ->
+        intervalosPorJanela.put(janela, (int) Math.max(1, duracao / intervalo)));
+    this.intervalos = intervalosPorJanela.values().stream().max(Integer::compare).orElseThrow();
+  }
+
+  public void registrar(String metodo, String rota, int status, long nanos) {
+    if (status < 100 || status > 599) {
+      return;
+    }
+    rotas.computeIfAbsent(metodo, chave -> new ConcurrentHashMap<>())
+        .computeIfAbsent(rota, chave -> new Rota())
+        .latencia(status, intervalos)
+        .registrar(nanos);
+  }
+
+  @Scheduled(fixedRateString = "${mensagem.latencia.intervalo:20000}")
+  public void rotacionar() {
+    rotas.values().forEach(porRota -> porRota.values().forEach(Rota::rotacionar));
+  }
+
+  public List<LatenciaRota> latencias() {
+    List<LatenciaRota> latencias = new ArrayList<>();
+    rotas.forEach((metodo, porRota) -> porRota.forEach((rota, estado) -> {
+      for (int status = 100; status < 600; status++) {
+        var latencia = estado.porStatus.get(status);
+        if (latencia != null) {
+          latencias.add(new LatenciaRota(metodo, rota, status, latencia.janelas(intervalosPorJanela)));
+        }
+      }
+    }));
+    latencias.sort(Comparator.comparing(LatenciaRota::rota)
+        .thenComparing(LatenciaRota::metodo)
+        .thenComparingInt(LatenciaRota::status));
+    return latencias;
+  }
+
+  private static Map<String, Long> janelas() {
+    Map<String, Long> janelas = new LinkedHashMap<>();
+    janelas.put("1m", TimeUnit.MINUTES.toMillis(1));
+    janelas.put("5m", TimeUnit.MINUTES.toMillis(5));
+    janelas.put("15m", TimeUnit.MINUTES.toMillis(15));
+    return janelas;
+  }
+
+  private static Map<String, Double> percentis() {
+    Map<String, Double> percentis = new LinkedHashMap<>();
+    percentis.put("p50", 50.0);
+    percentis.put("p90", 90.0);
+    percentis.put("p99", 99.0);
+    percentis.put("p99.9", 99.9);
+    percentis.put("p99.99", 99.99);
+    return percentis;
+  }
+
+  private static Janela janela(Histogram histograma) {
+    Map<String, Double> percentis = new LinkedHashMap<>();
+    PERCENTIS.forEach((nome, percentil) ->
+        percentis.put(nome, milissegundos(histograma.getValueAtPercentile(percentil))));
+    return new Janela(histograma.getTotalCount(),
+        histograma.getTotalCount() == 0 ? 0 : histograma.getMean() / 1000,
+        milissegundos(histograma.getMaxValue()), percentis);
+  }
+
+  private static double milissegundos(long micros) {
+    return micros / 1000.0;
+  }
+
+  public record LatenciaRota(String metodo, String rota, int status, Map<String, Janela> janelas) {
+  }
+
+  /**
+   * Valores em milissegundos.
+   */
+  public record Janela(long amostras, double media, double maximo, Map<String, Double> percentis) {
+  }
+
+  private static final class Rota {
+
+    private final AtomicReferenceArray<Latencia> porStatus = new AtomicReferenceArray<>(600);
+
+    Latencia latencia(int status, int intervalos) {
+      var latencia = porStatus.get(status);
+      if (latencia == null) {
+        porStatus.compareAndSet(status, null, new Latencia(intervalos));
+        latencia = porStatus.get(status);
+      }
+      return latencia;
+    }
+
+    void rotacionar() {
+      for (int status = 100; status < 600; status++) {
+        var latencia = porStatus.get(status);
+        if (latencia != null) {
+          latencia.rotacionar();
+        }
+      }
+    }
+  }
+
+  private static final class Latencia {
+
+    private final Recorder recorder =
+        new Recorder(1, LATENCIA_MAXIMA_US, DIGITOS_SIGNIFICATIVOS);
+
+    private final Histogram[] fechados;
+
+    private int posicao = -1;
+
+    private int preenchidos;
+
+    Latencia(int intervalos) {
+      this.fechados = new Histogram[intervalos];
+    }
+
+    void registrar(long nanos) {
+      recorder.recordValue(
+          Math.max(1, Math.min(LATENCIA_MAXIMA_US, TimeUnit.NANOSECONDS.toMicros(nanos))));
+    }
+
+    synchronized void rotacionar() {
+      posicao = (posicao + 1) % fechados.length;
+      var reciclado = fechados[posicao];
+      fechados[posicao] = reciclado == null
+          ? recorder.getIntervalHistogram()
+          : recorder.getIntervalHistogram(reciclado);
+      preenchidos = Math.min(preenchidos + 1, fechados.length);
+    }
+
+    synchronized Map<String, Janela> janelas(Map<String, Integer> intervalosPorJanela) {
+      Map<String, Janela> janelas = new LinkedHashMap<>();
+      intervalosPorJanela.forEach((janela, intervalos) -> {
+        var soma = new Histogram(1, LATENCIA_MAXIMA_US, DIGITOS_SIGNIFICATIVOS);
+        for (int i = 0; i < Math.min(intervalos, preenchidos); i++) {
+          soma.add(fechados[Math.floorMod(posicao - i, fechados.length)]);
+        }
+        janelas.put(janela, janela(soma));
+      });
+      return janelas;
+    }
+  }
+}
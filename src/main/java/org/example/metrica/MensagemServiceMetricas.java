@@ -0,0 +1,61 @@
+package org.example.metrica;
+
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.example.exception.MensagemConflitoException;
+import org.example.exception.MensagemNotFoundException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mede cada operação de {@code MensagemService} no timer {@code mensagem.servico}, com as tags
+ * {@code operacao} (nome do método) e {@code resultado}. O histograma de percentis permite calcular
+ * p50/p99 por operação no Prometheus. Chamadas internas entre métodos do serviço não passam pelo
+ * proxy e não são contadas em dobro.
+ */
+@Aspect
+@Component
+public class MensagemServiceMetricas {
+
+  static final String METRICA = "mensagem.servico";
+
+  private final MeterProvider<Timer> timers;
+
+  public MensagemServiceMetricas(MeterRegistry meterRegistry) {
+    this.timers = Timer.builder(METRICA)
+        .description("tempo das operações de MensagemService")
+        .publishPercentileHistogram()
+        .minimumExpectedValue(Duration.ofNanos(100_000))
+        .maximumExpectedValue(Duration.ofSeconds(5))
+        .withRegistry(meterRegistry);
+  }
+
+  @Around("execution(* org.example.service.MensagemService.*(..))")
+  public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+    var operacao = joinPoint.getSignature().getName();
+    var inicio = System.nanoTime();
+    var resultado = operacao.startsWith("criar") ? "created" : "found";
+    try {
+      return joinPoint.proceed();
+    } catch (MensagemNotFoundException e) {
+      resultado = "not_found";
+      throw e;
+    } catch (MensagemConflitoException e) {
+      resultado = "conflict";
+      throw e;
+    } catch (IllegalArgumentException e) {
+      resultado = "invalid_id";
+      throw e;
+    } catch (Throwable e) {
+      resultado = "error";
+      throw e;
+    } finally {
+      timers.withTags("operacao", operacao, "resultado", resultado)
+          .record(Duration.ofNanos(System.nanoTime() - inicio));
+    }
+  }
+}
@@ -2,10 +2,13 @@
 package org.example.model;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -15,9 +18,11 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.extern.jackson.Jacksonized;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.GenericGenerator;
 
 @Entity
+@DynamicUpdate
 @Data
 @Builder(toBuilder = true)
 @NoArgsConstructor
@@ -30,13 +35,18 @@ public class Mensagem {
   private UUID id;
 
   @NotEmpty(message = "usuário não pode estar vazio")
+  @Size(max = 100, message = "usuário deve ter no máximo 100 caracteres")
+  @Column(length = 100, nullable = false)
   private String usuario;
 
   @NotEmpty(message = "conteúdo não pode estar vazio")
+  @Size(max = 1000, message = "conteúdo deve ter no máximo 1000 caracteres")
+  @Column(length = 1000, nullable = false)
   private String conteudo;
 
   @CreationTimestamp
   @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss.SSSSS")
+  @Column(nullable = false)
   private LocalDateTime dataCriacao;
 
   @CreationTimestamp
@@ -46,6 +56,10 @@ public class Mensagem {
   @Default
   private int gostei = 0;
 
+  // incrementada a cada alteração de conteúdo; os gostei não a alteram
+  @Version
+  private Long versao;
+
   @PrePersist
   public void prePersist() {
     var timestamp = LocalDateTime.now();
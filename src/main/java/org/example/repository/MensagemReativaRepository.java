@@ -0,0 +1,131 @@
+package org.example.repository;
+
+import io.r2dbc.spi.Row;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.example.dto.MensagemCursor;
+import org.example.model.Mensagem;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequiredArgsConstructor
+public class MensagemReativaRepository {
+
+  private static final String COLUNAS =
+      "SELECT id, usuario, conteudo, data_criacao, data_alteracao, gostei, versao FROM mensagem ";
+
+  private final DatabaseClient databaseClient;
+
+  public Mono<Mensagem> salvar(Mensagem mensagem) {
+    return databaseClient.sql("INSERT INTO mensagem "
+            + "(id, usuario, conteudo, data_criacao, data_alteracao, gostei, versao) "
+            + "VALUES (:id, :usuario, :conteudo, :dataCriacao, :dataAlteracao, :gostei, :versao)")
+        .bind("id", mensagem.getId())
+        .bind("usuario", mensagem.getUsuario())
+        .bind("conteudo", mensagem.getConteudo())
+        .bind("dataCriacao", mensagem.getDataCriacao())
+        .bind("dataAlteracao", mensagem.getDataAlteracao())
+        .bind("gostei", mensagem.getGostei())
+        .bind("versao", mensagem.getVersao())
+        .fetch()
+        .rowsUpdated()
+        .thenReturn(mensagem);
+  }
+
+  public Mono<Mensagem> buscar(UUID id) {
+    return databaseClient.sql(COLUNAS + "WHERE id = :id")
+        .bind("id", id)
+        .map((row, metadata) -> mapear(row))
+        .one();
+  }
+
+  public Flux<Mensagem> listar(long offset, int limite) {
+    return databaseClient.sql(COLUNAS
+            + "ORDER BY data_criacao DESC LIMIT :limite OFFSET :offset")
+        .bind("limite", limite)
+        .bind("offset", offset)
+        .map((row, metadata) -> mapear(row))
+        .all();
+  }
+
+  public Mono<Long> contar() {
+    return databaseClient.sql("SELECT COUNT(*) FROM mensagem")
+        .map((row, metadata) -> row.get(0, Long.class))
+        .one();
+  }
+
+  public Flux<Mensagem> listarPorCursor(MensagemCursor cursor, int limite) {
+    if (cursor == null) {
+      return databaseClient.sql(COLUNAS
+              + "ORDER BY data_criacao DESC, id DESC LIMIT :limite")
+          .bind("limite", limite)
+          .map((row, metadata) -> mapear(row))
+          .all();
+    }
+    return databaseClient.sql(COLUNAS
+            + "WHERE data_criacao <= :dataCriacao "
+            + "AND (data_criacao < :dataCriacao OR id < :id) "
+            + "ORDER BY data_criacao DESC, id DESC LIMIT :limite")
+        .bind("dataCriacao", cursor.getDataCriacao())
+        .bind("id", cursor.getId())
+        .bind("limite", limite)
+        .map((row, metadata) -> mapear(row))
+        .all();
+  }
+
+  // com versao nula a escrita é incondicional; o retorno zero indica mensagem ausente ou conflito
+  public Mono<Long> alterarConteudo(
+      UUID id, String conteudo, LocalDateTime dataAlteracao, Long versao) {
+    var sql = "UPDATE mensagem "
+        + "SET conteudo = :conteudo, data_alteracao = :dataAlteracao, versao = versao + 1 "
+        + "WHERE id = :id";
+    if (versao == null) {
+      return databaseClient.sql(sql)
+          .bind("conteudo", conteudo)
+          .bind("dataAlteracao", dataAlteracao)
+          .bind("id", id)
+          .fetch()
+          .rowsUpdated();
+    }
+    return databaseClient.sql(sql + " AND versao = :versao")
+        .bind("conteudo", conteudo)
+        .bind("dataAlteracao", dataAlteracao)
+        .bind("id", id)
+        .bind("versao", versao)
+        .fetch()
+        .rowsUpdated();
+  }
+
+  public Mono<Long> incrementarGostei(UUID id) {
+    return databaseClient.sql("UPDATE mensagem SET gostei = gostei + 1 WHERE id = :id")
+        .bind("id", id)
+        .fetch()
+        .rowsUpdated();
+  }
+
+  public Mono<Long> apagar(UUID id) {
+    return databaseClient.sql("DELETE FROM mensagem WHERE id = :id")
+        .bind("id", id)
+        .fetch()
+        .rowsUpdated();
+  }
+
+  private static Mensagem mapear(Row row) {
+    return Mensagem.builder()
+        .id(row.get("id", UUID.class))
+        .usuario(row.get("usuario", String.class))
+        .conteudo(row.get("conteudo", String.class))
+        .dataCriacao(row.get("data_criacao", LocalDateTime.class))
+        .dataAlteracao(row.get("data_alteracao", LocalDateTime.class))
+        .gostei(row.get("gostei", Integer.class))
+        .versao(row.get("versao", Long.class))
+        .build();
+  }
+}
@@ -1,12 +1,22 @@
 
 package org.example.repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import org.example.dto.MensagemResumo;
 import org.example.model.Mensagem;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -15,5 +25,77 @@ public interface MensagemRepository extends JpaRepository<Mensagem, UUID> {
 
   @Query("SELECT m FROM Mensagem m ORDER BY m.dataCriacao DESC")
   Page<Mensagem> listarMensagens(Pageable pageable);
-}
 
+  // válida apenas com IDs ordenados no tempo: percorre o índice da chave primária sem ordenar
+  @Query("SELECT m FROM Mensagem m ORDER BY m.id DESC")
+  Page<Mensagem> listarMensagensPorId(Pageable pageable);
+
+  @Query(value = "SELECT new org.example.dto.MensagemResumo("
+      + "m.id, m.usuario, m.conteudo, m.dataCriacao, m.dataAlteracao, m.gostei, m.versao) "
+      + "FROM Mensagem m ORDER BY m.dataCriacao DESC",
+      countQuery = "SELECT COUNT(m) FROM Mensagem m")
+  Page<MensagemResumo> listarResumos(Pageable pageable);
+
+  @Query(value = "SELECT new org.example.dto.MensagemResumo("
+      + "m.id, m.usuario, m.conteudo, m.dataCriacao, m.dataAlteracao, m.gostei, m.versao) "
+      + "FROM Mensagem m ORDER BY m.id DESC",
+      countQuery = "SELECT COUNT(m) FROM Mensagem m")
+  Page<MensagemResumo> listarResumosPorId(Pageable pageable);
+
+  @Query("SELECT m FROM Mensagem m ORDER BY m.dataCriacao DESC, m.id DESC")
+  List<Mensagem> listarMensagensPorCursor(Pageable pageable);
+
+  // o limite em dataCriacao isolado permite percorrer o índice a partir do cursor
+  @Query("SELECT m FROM Mensagem m "
+      + "WHERE m.dataCriacao <= :dataCriacao "
+      + "AND (m.dataCriacao < :dataCriacao OR m.id < :id) "
+      + "ORDER BY m.dataCriacao DESC, m.id DESC")
+  List<Mensagem> listarMensagensPorCursor(
+      @Param("dataCriacao") LocalDateTime dataCriacao,
+      @Param("id") UUID id,
+      Pageable pageable);
+
+  // usuario no ORDER BY acompanha a ordem do índice (usuario, data_criacao, id)
+  @Query("SELECT m FROM Mensagem m "
+      + "WHERE m.usuario = :usuario "
+      + "ORDER BY m.usuario, m.dataCriacao DESC, m.id DESC")
+  List<Mensagem> listarMensagensDoUsuario(@Param("usuario") String usuario, Pageable pageable);
+
+  @Query("SELECT m FROM Mensagem m "
+      + "WHERE m.usuario = :usuario "
+      + "AND m.dataCriacao <= :dataCriacao "
+      + "AND (m.dataCriacao < :dataCriacao OR m.id < :id) "
+      + "ORDER BY m.usuario, m.dataCriacao DESC, m.id DESC")
+  List<Mensagem> listarMensagensDoUsuario(
+      @Param("usuario") String usuario,
+      @Param("dataCriacao") LocalDateTime dataCriacao,
+      @Param("id") UUID id,
+      Pageable pageable);
+
+  @Modifying
+  @Query("UPDATE Mensagem m SET m.gostei = m.gostei + :incremento WHERE m.id = :id")
+  int incrementarGostei(@Param("id") UUID id, @Param("incremento") int incremento);
+
+  // com versao nula a escrita é incondicional; o retorno zero indica mensagem ausente ou conflito
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("UPDATE Mensagem m "
+      + "SET m.conteudo = :conteudo, m.dataAlteracao = :dataAlteracao, m.versao = m.versao + 1 "
+      + "WHERE m.id = :id AND (:versao IS NULL OR m.versao = :versao)")
+  int alterarConteudo(
+      @Param("id") UUID id,
+      @Param("conteudo") String conteudo,
+      @Param("dataAlteracao") LocalDateTime dataAlteracao,
+      @Param("versao") Long versao);
+
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("DELETE FROM Mensagem m WHERE m.id = :id AND (:versao IS NULL OR m.versao = :versao)")
+  int apagarMensagem(@Param("id") UUID id, @Param("versao") Long versao);
+
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+  @Query("SELECT m FROM Mensagem m")
+  Stream<Mensagem> exportarMensagens();
+}
@@ -0,0 +1,100 @@
+
+package org.example.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.cache.MensagemCache;
+import org.example.dto.MensagemEvento;
+import org.example.repository.MensagemRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Acumula os incrementos de "gostei" em memória e os descarrega periodicamente no banco, com um
+ * único UPDATE relativo por mensagem, evitando o read-modify-write da entidade a cada curtida.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContadorGostei {
+
+  private final ConcurrentHashMap<UUID, LongAdder> pendentes = new ConcurrentHashMap<>();
+
+  private final MensagemRepository mensagemRepository;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final MensagemCache mensagemCache;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  public void incrementar(UUID id) {
+    acumular(id, 1);
+  }
+
+  public long pendente(UUID id) {
+    var contador = pendentes.get(id);
+    return contador == null ? 0 : contador.sum();
+  }
+
+  public void descartar(UUID id) {
+    pendentes.remove(id);
+  }
+
+  @Scheduled(fixedDelayString = "${mensagem.gostei.intervalo-descarga:1000}")
+  public void descarregar() {
+    Map<UUID, Long> lote = new HashMap<>();
+    for (UUID id : pendentes.keySet()) {
+      // contadores sem incremento desde a última descarga são removidos dentro do mesmo compute
+      pendentes.computeIfPresent(id, (chave, contador) -> {
+        var incremento = contador.sumThenReset();
+        if (incremento == 0) {
+          return null;
+        }
+        lote.put(chave, incremento);
+        return contador;
+      });
+    }
+    if (lote.isEmpty()) {
+      return;
+    }
+    Map<UUID, Long> aplicados = new HashMap<>();
+    try {
+      transactionTemplate.executeWithoutResult(status -> lote.forEach((id, incremento) -> {
+        if (mensagemRepository.incrementarGostei(id, Math.toIntExact(incremento)) > 0) {
+          aplicados.put(id, incremento);
+        }
+      }));
+      // o valor persistido mudou: a cópia em cache deixa de ser válida
+      lote.keySet().forEach(mensagemCache::invalidar);
+      aplicados.forEach((id, incremento) ->
+          eventPublisher.publishEvent(MensagemEvento.gostei(id, incremento)));
+      log.debug("descarga de gostei efetuada: Mensagens={}", lote.size());
+    } catch (RuntimeException e) {
+      log.error("falha ao descarregar gostei, incrementos mantidos para a próxima descarga", e);
+      lote.forEach(this::acumular);
+    }
+  }
+
+  @PreDestroy
+  public void finalizar() {
+    descarregar();
+  }
+
+  private void acumular(UUID id, long incremento) {
+    // somado dentro do compute: não concorre com a remoção do contador zerado na descarga
+    pendentes.compute(id, (chave, contador) -> {
+      var atual = contador == null ? new LongAdder() : contador;
+      atual.add(incremento);
+      return atual;
+    });
+  }
+}
@@ -0,0 +1,9 @@
+package org.example.service;
+
+import java.util.function.Consumer;
+import org.example.model.Mensagem;
+
+public interface MensagemExportacaoService {
+
+  long exportarMensagens(Consumer<Mensagem> destino);
+}
@@ -0,0 +1,42 @@
+package org.example.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.model.Mensagem;
+import org.example.repository.MensagemRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class MensagemExportacaoServiceImpl implements MensagemExportacaoService {
+
+  private final MensagemRepository mensagemRepository;
+
+  private final ContadorGostei contadorGostei;
+
+  private final EntityManager entityManager;
+
+  /**
+   * Percorre a tabela com um cursor JDBC somente leitura e entrega cada mensagem ao destino. Cada
+   * entidade é desanexada após a leitura, para que o contexto de persistência não cresça com o
+   * tamanho da tabela.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public long exportarMensagens(Consumer<Mensagem> destino) {
+    var total = 0L;
+    try (var mensagens = mensagemRepository.exportarMensagens()) {
+      for (var iterador = mensagens.iterator(); iterador.hasNext(); total++) {
+        var mensagem = iterador.next();
+        entityManager.detach(mensagem);
+        mensagem.setGostei(mensagem.getGostei()
+            + Math.toIntExact(contadorGostei.pendente(mensagem.getId())));
+        destino.accept(mensagem);
+      }
+    }
+    return total;
+  }
+}
@@ -0,0 +1,11 @@
+
+package org.example.service;
+
+import java.util.Iterator;
+import org.example.dto.ResultadoLote;
+import org.example.model.Mensagem;
+
+public interface MensagemLoteService {
+
+  ResultadoLote criarMensagens(Iterator<Mensagem> mensagens);
+}
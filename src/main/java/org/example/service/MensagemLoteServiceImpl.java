@@ -0,0 +1,102 @@
+
+package org.example.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.ItemLote;
+import org.example.dto.MensagemEvento;
+import org.example.dto.ResultadoLote;
+import org.example.id.GeradorId;
+import org.example.model.Mensagem;
+import org.example.repository.MensagemRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MensagemLoteServiceImpl implements MensagemLoteService {
+
+  private static final List<String> PAYLOAD_INVALIDO = List.of("payload inválido");
+
+  private final MensagemRepository mensagemRepository;
+
+  private final Validator validator;
+
+  private final TransactionTemplate transactionTemplate;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final GeradorId geradorId;
+
+  @Value("${mensagem.lote.tamanho:50}")
+  private int tamanhoLote;
+
+  @Override
+  public ResultadoLote criarMensagens(Iterator<Mensagem> mensagens) {
+    List<ItemLote> itens = new ArrayList<>();
+    List<Mensagem> lote = new ArrayList<>(tamanhoLote);
+    List<Integer> indicesLote = new ArrayList<>(tamanhoLote);
+    var indice = 0;
+    while (mensagens.hasNext()) {
+      var mensagem = mensagens.next();
+      var erros = validar(mensagem);
+      if (erros.isEmpty()) {
+        lote.add(mensagem);
+        indicesLote.add(indice);
+      } else {
+        itens.add(ItemLote.rejeitada(indice, erros));
+      }
+      indice++;
+      if (lote.size() == tamanhoLote) {
+        persistir(lote, indicesLote, itens);
+        lote.clear();
+        indicesLote.clear();
+      }
+    }
+    if (!lote.isEmpty()) {
+      persistir(lote, indicesLote, itens);
+    }
+    itens.sort(Comparator.comparingInt(ItemLote::getIndice));
+    return ResultadoLote.de(itens);
+  }
+
+  private List<String> validar(Mensagem mensagem) {
+    if (mensagem == null) {
+      return PAYLOAD_INVALIDO;
+    }
+    return validator.validate(mensagem).stream()
+        .map(ConstraintViolation::getMessage)
+        .sorted()
+        .toList();
+  }
+
+  private void persistir(List<Mensagem> lote, List<Integer> indices, List<ItemLote> itens) {
+    lote.forEach(mensagem -> {
+      mensagem.setId(geradorId.gerar());
+      mensagem.setVersao(null);
+    });
+    try {
+      // uma transação por lote: o Hibernate agrupa os INSERTs via hibernate.jdbc.batch_size
+      var mensagensCriadas = transactionTemplate.execute(status -> mensagemRepository.saveAll(lote));
+      for (var i = 0; i < indices.size(); i++) {
+        itens.add(ItemLote.criada(indices.get(i), mensagensCriadas.get(i).getId()));
+      }
+      mensagensCriadas.forEach(mensagem ->
+          eventPublisher.publishEvent(MensagemEvento.criada(mensagem)));
+    } catch (DataAccessException | TransactionException e) {
+      log.error("falha ao persistir lote de mensagens: Tamanho={}", lote.size(), e);
+      indices.forEach(i -> itens.add(ItemLote.rejeitada(i, List.of("falha ao persistir mensagem"))));
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package org.example.service;
+
+import java.util.UUID;
+import org.example.dto.MensagemCursor;
+import org.example.dto.MensagemSlice;
+import org.example.model.Mensagem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+public interface MensagemReativaService {
+
+  Mono<Mensagem> criarMensagem(Mensagem mensagem);
+
+  Mono<Mensagem> buscarMensagem(UUID id);
+
+  Mono<Mensagem> alterarMensagem(UUID id, Mensagem mensagemNova);
+
+  Mono<Boolean> apagarMensagem(UUID id);
+
+  Mono<Mensagem> incrementarGostei(UUID id);
+
+  Mono<Page<Mensagem>> listarMensagens(Pageable pageable);
+
+  Mono<MensagemSlice> listarMensagensPorCursor(MensagemCursor cursor, int size);
+}
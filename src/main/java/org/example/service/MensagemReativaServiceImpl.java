@@ -0,0 +1,96 @@
+package org.example.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.example.dto.MensagemCursor;
+import org.example.dto.MensagemSlice;
+import org.example.exception.MensagemConflitoException;
+import org.example.exception.MensagemNotFoundException;
+import org.example.id.GeradorId;
+import org.example.model.Mensagem;
+import org.example.repository.MensagemReativaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Service
+@ConditionalOnWebApplication(type = Type.REACTIVE)
+@RequiredArgsConstructor
+public class MensagemReativaServiceImpl implements MensagemReativaService {
+
+  private final MensagemReativaRepository mensagemRepository;
+
+  private final GeradorId geradorId;
+
+  @Override
+  public Mono<Mensagem> criarMensagem(Mensagem mensagem) {
+    var timestamp = LocalDateTime.now();
+    mensagem.setId(geradorId.gerar());
+    mensagem.setDataCriacao(timestamp);
+    mensagem.setDataAlteracao(timestamp);
+    mensagem.setVersao(0L);
+    return mensagemRepository.salvar(mensagem);
+  }
+
+  @Override
+  public Mono<Mensagem> buscarMensagem(UUID id) {
+    return mensagemRepository.buscar(id)
+        .switchIfEmpty(Mono.error(() -> new MensagemNotFoundException("mensagem não encontrada")));
+  }
+
+  @Override
+  public Mono<Mensagem> alterarMensagem(UUID id, Mensagem mensagemAtualizada) {
+    return buscarMensagem(id)
+        .filter(mensagem -> mensagem.getId().equals(mensagemAtualizada.getId()))
+        .switchIfEmpty(Mono.error(
+            () -> new MensagemNotFoundException("mensagem não apresenta o ID correto")))
+        .flatMap(mensagem -> mensagemRepository.alterarConteudo(id,
+            mensagemAtualizada.getConteudo(), LocalDateTime.now(), mensagemAtualizada.getVersao()))
+        // relida após a escrita: a versão gravada depende das escritas concorrentes
+        .flatMap(alteradas -> alteradas == 0
+            ? conflitoOuAusente(id, mensagemAtualizada.getVersao())
+            : buscarMensagem(id));
+  }
+
+  @Override
+  public Mono<Boolean> apagarMensagem(UUID id) {
+    return mensagemRepository.apagar(id)
+        .filter(removidas -> removidas > 0)
+        .switchIfEmpty(Mono.error(() -> new MensagemNotFoundException("mensagem não encontrada")))
+        .thenReturn(true);
+  }
+
+  @Override
+  public Mono<Mensagem> incrementarGostei(UUID id) {
+    return mensagemRepository.incrementarGostei(id)
+        .filter(alteradas -> alteradas > 0)
+        .switchIfEmpty(Mono.error(() -> new MensagemNotFoundException("mensagem não encontrada")))
+        .then(buscarMensagem(id));
+  }
+
+  @Override
+  public Mono<Page<Mensagem>> listarMensagens(Pageable pageable) {
+    return Mono.zip(
+            mensagemRepository.listar(pageable.getOffset(), pageable.getPageSize()).collectList(),
+            mensagemRepository.contar())
+        .<Page<Mensagem>>map(resultado ->
+            new PageImpl<>(resultado.getT1(), pageable, resultado.getT2()));
+  }
+
+  @Override
+  public Mono<MensagemSlice> listarMensagensPorCursor(MensagemCursor cursor, int size) {
+    return mensagemRepository.listarPorCursor(cursor, size + 1)
+        .collectList()
+        .map(mensagens -> MensagemSlice.de(mensagens, size));
+  }
+
+  private Mono<Mensagem> conflitoOuAusente(UUID id, Long versaoInformada) {
+    return buscarMensagem(id).flatMap(mensagemAtual ->
+        Mono.error(new MensagemConflitoException(mensagemAtual, versaoInformada)));
+  }
+}
@@ -1,10 +1,16 @@
 
 package org.example.service;
 
+import org.example.dto.MensagemBusca;
+import org.example.dto.MensagemCursor;
+import org.example.dto.MensagemPagina;
+import org.example.dto.MensagemSlice;
+import org.example.dto.PaginaSerializada;
 import org.example.model.Mensagem;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Optional;
 import java.util.UUID;
 
 public interface MensagemService {
@@ -15,9 +21,19 @@ public interface MensagemService {
 
   Mensagem alterarMensagem(UUID id, Mensagem mensagemNova);
 
-  boolean apagarMensagem(UUID id);
+  boolean apagarMensagem(UUID id, Long versao);
 
   Mensagem incrementarGostei(UUID id);
 
   Page<Mensagem> listarMensagens(Pageable pageable);
+
+  Optional<PaginaSerializada> listarMensagensRecentes(int page, int size);
+
+  MensagemPagina listarResumos(Pageable pageable);
+
+  MensagemSlice listarMensagensPorCursor(MensagemCursor cursor, int size);
+
+  MensagemSlice listarMensagensDoUsuario(String usuario, MensagemCursor cursor, int size);
+
+  MensagemBusca pesquisarMensagens(String consulta, int page, int size);
 }
@@ -2,13 +2,36 @@
 package org.example.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.example.busca.IndiceMensagens;
+import org.example.cache.CarregamentoUnico;
+import org.example.cache.MensagemCache;
+import org.example.cache.PaginasRecentes;
+import org.example.cache.TimelineCache;
+import org.example.dto.MensagemBusca;
+import org.example.dto.MensagemCursor;
+import org.example.dto.MensagemEvento;
+import org.example.dto.MensagemPagina;
+import org.example.dto.MensagemResumo;
+import org.example.dto.MensagemSlice;
+import org.example.dto.PaginaSerializada;
+import org.example.exception.MensagemConflitoException;
 import org.example.exception.MensagemNotFoundException;
+import org.example.id.GeradorId;
 import org.example.model.Mensagem;
 import org.example.repository.MensagemRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
@@ -18,45 +41,212 @@ public class MensagemServiceImpl implements MensagemService {
 
   private final MensagemRepository mensagemRepository;
 
+  private final ContadorGostei contadorGostei;
+
+  private final MensagemCache mensagemCache;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final GeradorId geradorId;
+
+  private final TimelineCache timelineCache;
+
+  private final IndiceMensagens indiceMensagens;
+
+  private final CarregamentoUnico carregamentoUnico;
+
+  private final PaginasRecentes paginasRecentes;
+
   @Override
   public Mensagem criarMensagem(Mensagem mensagem) {
-    mensagem.setId(UUID.randomUUID());
-    return mensagemRepository.save(mensagem);
+    mensagem.setId(geradorId.gerar());
+    mensagem.setVersao(null);
+    var mensagemCriada = mensagemRepository.save(mensagem);
+    mensagemCache.atualizar(mensagemCriada);
+    eventPublisher.publishEvent(MensagemEvento.criada(mensagemCriada));
+    return mensagemCriada;
   }
 
   @Override
   public Mensagem buscarMensagem(UUID id) {
-    return mensagemRepository.findById(id)
-        .orElseThrow(() -> new MensagemNotFoundException("mensagem não encontrada"));
+    return comGosteiPendente(carregarMensagem(id));
   }
 
   @Override
   public Mensagem alterarMensagem(UUID id, Mensagem mensagemAtualizada) {
-    var mensagem = buscarMensagem(id);
-    if (!mensagem.getId().equals(mensagemAtualizada.getId())) {
+    if (!id.equals(mensagemAtualizada.getId())) {
+      // mensagem ausente continua respondendo "não encontrada", como antes da escrita condicional
+      if (!mensagemRepository.existsById(id)) {
+        throw new MensagemNotFoundException("mensagem não encontrada");
+      }
       throw new MensagemNotFoundException("mensagem não apresenta o ID correto");
     }
-    mensagem.setDataAlteracao(LocalDateTime.now());
-    mensagem.setConteudo(mensagemAtualizada.getConteudo());
-    return mensagemRepository.save(mensagem);
+    var dataAlteracao = LocalDateTime.now();
+    var versao = mensagemAtualizada.getVersao();
+    if (mensagemRepository.alterarConteudo(
+        id, mensagemAtualizada.getConteudo(), dataAlteracao, versao) == 0) {
+      throw conflitoOuAusente(id, versao);
+    }
+    // só a escrita condicional conhece a versão gravada; a incondicional relê a linha
+    var mensagemEmCache = versao == null ? null : mensagemCache.obter(id);
+    Mensagem mensagemAlterada;
+    if (mensagemEmCache == null) {
+      mensagemCache.invalidar(id);
+      mensagemAlterada = carregarMensagem(id);
+    } else {
+      mensagemAlterada = mensagemEmCache.toBuilder()
+          .conteudo(mensagemAtualizada.getConteudo())
+          .dataAlteracao(dataAlteracao)
+          .versao(versao + 1)
+          .build();
+      mensagemCache.substituir(mensagemAlterada);
+    }
+    eventPublisher.publishEvent(MensagemEvento.alterada(mensagemAlterada));
+    return comGosteiPendente(mensagemAlterada);
   }
 
   @Override
-  public boolean apagarMensagem(UUID id) {
-    var mensagem = buscarMensagem(id);
-    mensagemRepository.delete(mensagem);
+  public boolean apagarMensagem(UUID id, Long versao) {
+    if (mensagemRepository.apagarMensagem(id, versao) == 0) {
+      throw conflitoOuAusente(id, versao);
+    }
+    mensagemCache.invalidar(id);
+    contadorGostei.descartar(id);
+    eventPublisher.publishEvent(MensagemEvento.apagada(id));
     return true;
   }
 
   @Override
   public Mensagem incrementarGostei(UUID id) {
     var mensagem = buscarMensagem(id);
+    contadorGostei.incrementar(id);
+    paginasRecentes.gostei(id);
     mensagem.setGostei(mensagem.getGostei() + 1);
-    return mensagemRepository.save(mensagem);
+    return mensagem;
   }
 
   @Override
   public Page<Mensagem> listarMensagens(Pageable pageable) {
-    return mensagemRepository.listarMensagens(pageable);
+    var mensagens = geradorId.ordenadoPorCriacao()
+        ? mensagemRepository.listarMensagensPorId(pageable)
+        : mensagemRepository.listarMensagens(pageable);
+    return mensagens.map(this::comGosteiPendente);
+  }
+
+  @Override
+  public Optional<PaginaSerializada> listarMensagensRecentes(int page, int size) {
+    return paginasRecentes.buscar(page, size, this::listarMensagens);
+  }
+
+  /**
+   * Listagem por projeção: as linhas viram {@link MensagemResumo} sem passar pelo contexto de
+   * persistência, e a transação somente leitura dispensa o flush ao final.
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public MensagemPagina listarResumos(Pageable pageable) {
+    var resumos = geradorId.ordenadoPorCriacao()
+        ? mensagemRepository.listarResumosPorId(pageable)
+        : mensagemRepository.listarResumos(pageable);
+    return MensagemPagina.de(resumos.map(this::comGosteiPendente));
+  }
+
+  @Override
+  public MensagemSlice listarMensagensPorCursor(MensagemCursor cursor, int size) {
+    var pageable = PageRequest.of(0, size + 1);
+    var mensagens = cursor == null
+        ? mensagemRepository.listarMensagensPorCursor(pageable)
+        : mensagemRepository.listarMensagensPorCursor(
+            cursor.getDataCriacao(), cursor.getId(), pageable);
+    return MensagemSlice.de(mensagens.stream().map(this::comGosteiPendente).toList(), size);
+  }
+
+  @Override
+  public MensagemSlice listarMensagensDoUsuario(String usuario, MensagemCursor cursor, int size) {
+    var pageable = PageRequest.of(0, size + 1);
+    if (!timelineCache.habilitado()) {
+      var mensagens = consultarTimeline(usuario, cursor, pageable);
+      return MensagemSlice.de(mensagens.stream().map(this::comGosteiPendente).toList(), size);
+    }
+    var ids = timelineCache.buscar(usuario, cursor, size, () -> {
+      var geracao = mensagemCache.geracao();
+      var mensagens = consultarTimeline(usuario, cursor, pageable);
+      mensagens.forEach(mensagem -> mensagemCache.preencher(geracao, mensagem));
+      return mensagens.stream().map(Mensagem::getId).toList();
+    });
+    return MensagemSlice.de(
+        carregarMensagens(ids).stream().map(this::comGosteiPendente).toList(), size);
+  }
+
+  @Override
+  public MensagemBusca pesquisarMensagens(String consulta, int page, int size) {
+    var ocorrencias = indiceMensagens.buscar(consulta, page * size, size + 1);
+    var mensagens = carregarMensagens(ocorrencias.ids());
+    return MensagemBusca.de(
+        mensagens.stream().map(this::comGosteiPendente).toList(), page, size, ocorrencias.total());
+  }
+
+  private List<Mensagem> consultarTimeline(
+      String usuario, MensagemCursor cursor, Pageable pageable) {
+    return cursor == null
+        ? mensagemRepository.listarMensagensDoUsuario(usuario, pageable)
+        : mensagemRepository.listarMensagensDoUsuario(
+            usuario, cursor.getDataCriacao(), cursor.getId(), pageable);
+  }
+
+  /**
+   * Recupera as mensagens na ordem dos IDs, do cache quando possível e numa única consulta para as
+   * demais; IDs apagados depois de a página entrar em cache ficam de fora.
+   */
+  private List<Mensagem> carregarMensagens(List<UUID> ids) {
+    Map<UUID, Mensagem> mensagens = new HashMap<>();
+    List<UUID> ausentes = new ArrayList<>();
+    for (var id : ids) {
+      var mensagem = mensagemCache.obter(id);
+      if (mensagem == null) {
+        ausentes.add(id);
+      } else {
+        mensagens.put(id, mensagem);
+      }
+    }
+    if (!ausentes.isEmpty()) {
+      var geracao = mensagemCache.geracao();
+      for (var mensagem : mensagemRepository.findAllById(ausentes)) {
+        mensagemCache.preencher(geracao, mensagem);
+        mensagens.put(mensagem.getId(), mensagem);
+      }
+    }
+    return ids.stream().map(mensagens::get).filter(Objects::nonNull).toList();
+  }
+
+  private Mensagem carregarMensagem(UUID id) {
+    return mensagemCache.buscar(id, chave -> carregamentoUnico.carregar(chave, ausente ->
+        mensagemRepository.findById(ausente)
+            .orElseThrow(() -> new MensagemNotFoundException("mensagem não encontrada"))));
+  }
+
+  /**
+   * Resolve uma escrita condicional que não afetou nenhuma linha; só este caminho de falha relê a
+   * mensagem, para devolver o estado atual junto com o conflito.
+   */
+  private RuntimeException conflitoOuAusente(UUID id, Long versaoInformada) {
+    mensagemCache.invalidar(id);
+    return mensagemRepository.findById(id)
+        .<RuntimeException>map(mensagemAtual ->
+            new MensagemConflitoException(comGosteiPendente(mensagemAtual), versaoInformada))
+        .orElseGet(() -> new MensagemNotFoundException("mensagem não encontrada"));
+  }
+
+  private MensagemResumo comGosteiPendente(MensagemResumo resumo) {
+    var pendente = contadorGostei.pendente(resumo.id());
+    return pendente == 0 ? resumo : resumo.comGostei(resumo.gostei() + Math.toIntExact(pendente));
+  }
+
+  private Mensagem comGosteiPendente(Mensagem mensagem) {
+    var pendente = contadorGostei.pendente(mensagem.getId());
+    // devolve uma cópia para não sujar a entidade gerenciada com o valor ainda não persistido
+    return mensagem.toBuilder()
+        .gostei(mensagem.getGostei() + Math.toIntExact(pendente))
+        .build();
   }
 }
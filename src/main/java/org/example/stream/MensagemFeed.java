@@ -0,0 +1,196 @@
+package org.example.stream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.example.dto.MensagemEvento;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Distribui os {@link MensagemEvento} efetivados para os assinantes de {@code /mensagens/stream}.
+ * Cada assinante tem um buffer limitado drenado por uma thread virtual própria; quem não acompanha
+ * o ritmo e enche o buffer é desconectado e pode retomar pelo {@code Last-Event-ID}, enquanto os
+ * eventos mais recentes estiverem no histórico.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class MensagemFeed {
+
+  static final String EVENTO_REINICIO = "REINICIO";
+
+  private final int tamanhoHistorico;
+
+  private final int tamanhoBuffer;
+
+  private final Duration timeout;
+
+  private final Deque<EventoSequenciado> historico = new ArrayDeque<>();
+
+  private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+
+  private final ThreadFactory threadFactory =
+      Thread.ofVirtual().name("mensagem-stream-", 0).factory();
+
+  private final Counter descartados;
+
+  // distingue os IDs desta execução dos emitidos antes de um restart
+  private final String instancia = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+  private long sequencia;
+
+  public MensagemFeed(
+      @Value("${mensagem.stream.historico:1000}") int tamanhoHistorico,
+      @Value("${mensagem.stream.buffer:256}") int tamanhoBuffer,
+      @Value("${mensagem.stream.timeout:30m}") Duration timeout,
+      MeterRegistry meterRegistry) {
+    this.tamanhoHistorico = tamanhoHistorico;
+    this.tamanhoBuffer = tamanhoBuffer;
+    this.timeout = timeout;
+    Gauge.builder("mensagem.stream.assinantes", assinantes, Set::size)
+        .register(meterRegistry);
+    this.descartados = Counter.builder("mensagem.stream.descartados")
+        .description("assinantes desconectados por não acompanharem o ritmo dos eventos")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Registra um assinante. Com {@code ultimoEventoId} os eventos posteriores ainda no histórico são
+   * reenviados; se parte deles já saiu do histórico, ou o ID é de outra execução, o assinante
+   * recebe {@code REINICIO} e deve recarregar a listagem.
+   */
+  public SseEmitter assinar(String ultimoEventoId) {
+    var assinante = new Assinante(new SseEmitter(timeout.toMillis()),
+        new ArrayBlockingQueue<>(tamanhoBuffer));
+    synchronized (historico) {
+      if (ultimoEventoId != null && !reenviar(assinante, ultimoEventoId)) {
+        assinante.fila.clear();
+        assinante.fila.offer(new EventoSequenciado(sequencia, null));
+      }
+      assinantes.add(assinante);
+    }
+    assinante.emitter.onCompletion(() -> remover(assinante));
+    assinante.emitter.onTimeout(() -> remover(assinante));
+    assinante.emitter.onError(e -> remover(assinante));
+    assinante.thread = threadFactory.newThread(assinante::transmitir);
+    assinante.thread.start();
+    log.debug("assinante conectado ao stream: Assinantes={}", assinantes.size());
+    return assinante.emitter;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void publicar(MensagemEvento evento) {
+    synchronized (historico) {
+      var eventoSequenciado = new EventoSequenciado(++sequencia, evento);
+      historico.addLast(eventoSequenciado);
+      if (historico.size() > tamanhoHistorico) {
+        historico.removeFirst();
+      }
+      for (var assinante : assinantes) {
+        if (!assinante.fila.offer(eventoSequenciado)) {
+          descartar(assinante);
+        }
+      }
+    }
+  }
+
+  public int assinantes() {
+    return assinantes.size();
+  }
+
+  @PreDestroy
+  public void finalizar() {
+    assinantes.forEach(this::remover);
+  }
+
+  private boolean reenviar(Assinante assinante, String ultimoEventoId) {
+    long ultimaSequencia;
+    try {
+      if (!ultimoEventoId.startsWith(instancia + "-")) {
+        return false;
+      }
+      ultimaSequencia = Long.parseLong(ultimoEventoId.substring(instancia.length() + 1));
+    } catch (NumberFormatException e) {
+      return false;
+    }
+    var primeiro = historico.peekFirst();
+    var primeiraDisponivel = primeiro == null ? sequencia + 1 : primeiro.sequencia();
+    if (ultimaSequencia > sequencia || primeiraDisponivel > ultimaSequencia + 1) {
+      return false;
+    }
+    for (var eventoSequenciado : historico) {
+      if (eventoSequenciado.sequencia() > ultimaSequencia
+          && !assinante.fila.offer(eventoSequenciado)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void descartar(Assinante assinante) {
+    log.warn("assinante desconectado do stream por buffer cheio: Buffer={}", tamanhoBuffer);
+    descartados.increment();
+    remover(assinante);
+  }
+
+  private void remover(Assinante assinante) {
+    if (assinantes.remove(assinante) && assinante.thread != null) {
+      // a própria thread do assinante encerra o emitter, sem disputar a escrita em andamento
+      assinante.thread.interrupt();
+    }
+  }
+
+  private record EventoSequenciado(long sequencia, MensagemEvento evento) {
+  }
+
+  private class Assinante {
+
+    private final SseEmitter emitter;
+
+    private final BlockingQueue<EventoSequenciado> fila;
+
+    private volatile Thread thread;
+
+    Assinante(SseEmitter emitter, BlockingQueue<EventoSequenciado> fila) {
+      this.emitter = emitter;
+      this.fila = fila;
+    }
+
+    void transmitir() {
+      try {
+        while (assinantes.contains(this)) {
+          var eventoSequenciado = fila.take();
+          var evento = eventoSequenciado.evento();
+          var sse = SseEmitter.event().id(instancia + "-" + eventoSequenciado.sequencia());
+          emitter.send(evento == null
+              ? sse.name(EVENTO_REINICIO).data("")
+              : sse.name(evento.getTipo().name()).data(evento, MediaType.APPLICATION_JSON));
+        }
+        emitter.complete();
+      } catch (InterruptedException e) {
+        emitter.complete();
+      } catch (IOException | IllegalStateException e) {
+        log.debug("falha ao enviar evento ao assinante: {}", e.getMessage());
+      } finally {
+        remover(this);
+      }
+    }
+  }
+}
@@ -0,0 +1,15 @@
+CREATE TABLE mensagem (
+    id             UUID          NOT NULL,
+    usuario        VARCHAR(100)  NOT NULL,
+    conteudo       VARCHAR(1000) NOT NULL,
+    data_criacao   TIMESTAMP(6)  NOT NULL,
+    data_alteracao TIMESTAMP(6),
+    gostei         INTEGER       DEFAULT 0 NOT NULL,
+    versao         BIGINT        DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_mensagem PRIMARY KEY (id)
+);
+
+-- listagem paginada e por cursor: ORDER BY data_criacao DESC, id DESC sem ordenação em memória
+CREATE INDEX idx_mensagem_data_criacao_id ON mensagem (data_criacao DESC, id DESC);
+
+CREATE INDEX idx_mensagem_usuario ON mensagem (usuario);
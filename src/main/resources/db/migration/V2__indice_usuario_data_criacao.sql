@@ -0,0 +1,5 @@
+-- timeline por usuário: filtro e ORDER BY data_criacao DESC, id DESC servidos pelo mesmo índice;
+-- o prefixo (usuario) substitui o índice simples criado na V1
+CREATE INDEX idx_mensagem_usuario_data_criacao ON mensagem (usuario, data_criacao DESC, id DESC);
+
+DROP INDEX idx_mensagem_usuario;
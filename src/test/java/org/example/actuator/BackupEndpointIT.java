@@ -0,0 +1,45 @@
+package org.example.actuator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.sql.DriverManager;
+import org.example.utils.DisplayTestName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = "mensagem.h2.backup.diretorio=target/backup-it")
+@AutoConfigureTestDatabase
+@DisplayNameGeneration(DisplayTestName.class)
+class BackupEndpointIT {
+
+  @Autowired
+  private BackupEndpoint backupEndpoint;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void devePermitirRestaurarBackup_ComTodasAsMensagens() throws Exception {
+    // Arrange
+    var totalMensagens = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mensagem", Long.class);
+    // Act
+    var backup = backupEndpoint.backup();
+    // Assert
+    assertThat(Path.of(backup.arquivo()))
+        .exists()
+        .hasParent(Path.of("target/backup-it").toAbsolutePath());
+    try (var conexao = DriverManager.getConnection("jdbc:h2:mem:restauracao", "sa", "");
+        var statement = conexao.createStatement()) {
+      statement.execute("RUNSCRIPT FROM '" + backup.arquivo() + "' COMPRESSION ZIP");
+      var resultado = statement.executeQuery("SELECT COUNT(*) FROM mensagem");
+      resultado.next();
+      assertThat(resultado.getLong(1))
+          .isEqualTo(totalMensagens);
+    }
+  }
+}
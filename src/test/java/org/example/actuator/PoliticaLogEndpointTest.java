@@ -0,0 +1,61 @@
+package org.example.actuator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.example.log.PoliticaLog;
+import org.example.log.PoliticaLog.Regra;
+import org.example.utils.DisplayTestName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class PoliticaLogEndpointTest {
+
+  private PoliticaLog politicaLog;
+  private PoliticaLogEndpoint politicaLogEndpoint;
+
+  @BeforeEach
+  void setUp() {
+    politicaLog = new PoliticaLog(1.0, 0, 10_000);
+    politicaLogEndpoint = new PoliticaLogEndpoint(politicaLog);
+  }
+
+  @Test
+  void devePermitirConfigurarOperacao_MantendoValoresNaoInformados() {
+    politicaLogEndpoint.configurar("buscar", 0.1, null);
+
+    var regra = politicaLogEndpoint.configurar("buscar", null, 50.0);
+
+    assertThat(regra).isEqualTo(new Regra(0.1, 50));
+    assertThat(politicaLog.regras()).containsEntry("buscar", regra);
+  }
+
+  @Test
+  void deveGerarExcecao_QuandoAmostragemForaDoIntervalo() {
+    assertThatThrownBy(() -> politicaLogEndpoint.configurar("buscar", 1.5, null))
+        .isInstanceOf(InvalidEndpointRequestException.class);
+    assertThat(politicaLog.regras()).doesNotContainKey("buscar");
+  }
+
+  @Test
+  void deveGerarExcecao_QuandoOperacaoDesconhecida() {
+    assertThatThrownBy(() -> politicaLogEndpoint.configurar("busca", 0.1, null))
+        .isInstanceOf(InvalidEndpointRequestException.class);
+    assertThatThrownBy(() -> politicaLogEndpoint.restaurar("busca"))
+        .isInstanceOf(InvalidEndpointRequestException.class);
+    assertThat(politicaLog.regras()).doesNotContainKey("busca");
+  }
+
+  @Test
+  void devePermitirRestaurarOperacao() {
+    politicaLogEndpoint.configurar("buscar", 0.0, null);
+
+    var regra = politicaLogEndpoint.restaurar("buscar");
+
+    assertThat(regra).isEqualTo(politicaLog.regraPadrao());
+    assertThat(politicaLog.regras()).containsEntry("buscar", politicaLog.regraPadrao());
+  }
+}
@@ -0,0 +1,59 @@
+package org.example.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.example.id.GeradorId;
+import org.example.id.GeradorIdAleatorio;
+import org.example.id.GeradorIdTemporal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Conversão do ID recebido no path, como feita no {@code MensagemController}; o caminho inválido
+ * mede o custo da exceção usada para responder "ID inválido". Inclui a geração de IDs pelas duas
+ * estratégias de {@link GeradorId}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdBenchmark {
+
+  private String idValido = "5f789b39-4295-42c1-a65b-cfca5b987db2";
+  private String idInvalido = "2";
+  private GeradorId geradorAleatorio = new GeradorIdAleatorio();
+  private GeradorId geradorTemporal = new GeradorIdTemporal();
+
+  @Benchmark
+  public UUID converterIdValido() {
+    return UUID.fromString(idValido);
+  }
+
+  @Benchmark
+  public UUID converterIdInvalido() {
+    try {
+      return UUID.fromString(idInvalido);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public UUID gerarIdAleatorio() {
+    return geradorAleatorio.gerar();
+  }
+
+  @Benchmark
+  public UUID gerarIdTemporal() {
+    return geradorTemporal.gerar();
+  }
+}
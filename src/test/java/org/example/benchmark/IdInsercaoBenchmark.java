@@ -0,0 +1,115 @@
+package org.example.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.example.id.GeradorId;
+import org.example.id.GeradorIdAleatorio;
+import org.example.id.GeradorIdTemporal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Inserção de um milhão de mensagens no H2 em arquivo com IDs v4 e v7. Cada iteração parte de um
+ * arquivo novo; ao final o tamanho do arquivo, que cresce com a fragmentação das páginas do índice
+ * da chave primária, é impresso junto ao resultado.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class IdInsercaoBenchmark {
+
+  private static final int TOTAL_MENSAGENS = 1_000_000;
+
+  private static final int TAMANHO_LOTE = 1_000;
+
+  @Param({"aleatorio", "temporal"})
+  private String estrategia;
+
+  private GeradorId geradorId;
+  private Path diretorio;
+  private Connection conexao;
+
+  @Setup(Level.Trial)
+  public void setUpTrial() throws IOException {
+    geradorId = "temporal".equals(estrategia) ? new GeradorIdTemporal() : new GeradorIdAleatorio();
+    diretorio = Files.createTempDirectory("jmh-id-" + estrategia);
+  }
+
+  @Setup(Level.Iteration)
+  public void setUp() throws SQLException, IOException {
+    apagarArquivos();
+    conexao = DriverManager.getConnection(
+        "jdbc:h2:file:" + diretorio.resolve("mensagem"), "sa", "");
+    try (var statement = conexao.createStatement()) {
+      statement.execute("CREATE TABLE mensagem (id UUID PRIMARY KEY, usuario VARCHAR(255), "
+          + "conteudo VARCHAR(255), data_criacao TIMESTAMP(6), data_alteracao TIMESTAMP(6), "
+          + "gostei INT NOT NULL, versao BIGINT)");
+    }
+    conexao.setAutoCommit(false);
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() throws SQLException, IOException {
+    try (var statement = conexao.createStatement()) {
+      statement.execute("SHUTDOWN");
+    }
+    conexao.close();
+    System.out.printf("%n%s: arquivo com %,d bytes%n",
+        estrategia, Files.size(diretorio.resolve("mensagem.mv.db")));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDownTrial() throws IOException {
+    apagarArquivos();
+    Files.delete(diretorio);
+  }
+
+  @Benchmark
+  public int inserir() throws SQLException {
+    var agora = Timestamp.valueOf(LocalDateTime.now());
+    try (var insert = conexao.prepareStatement("INSERT INTO mensagem "
+        + "(id, usuario, conteudo, data_criacao, data_alteracao, gostei, versao) "
+        + "VALUES (?, 'joe', 'xpto test', ?, ?, 0, 0)")) {
+      for (int i = 1; i <= TOTAL_MENSAGENS; i++) {
+        insert.setObject(1, geradorId.gerar());
+        insert.setTimestamp(2, agora);
+        insert.setTimestamp(3, agora);
+        insert.addBatch();
+        if (i % TAMANHO_LOTE == 0) {
+          insert.executeBatch();
+          conexao.commit();
+        }
+      }
+    }
+    return TOTAL_MENSAGENS;
+  }
+
+  private void apagarArquivos() throws IOException {
+    try (var arquivos = Files.list(diretorio)) {
+      for (var arquivo : arquivos.toList()) {
+        Files.delete(arquivo);
+      }
+    }
+  }
+}
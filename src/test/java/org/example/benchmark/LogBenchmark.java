@@ -0,0 +1,102 @@
+package org.example.benchmark;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Tempo gasto pela thread da requisição em uma linha de log INFO, com os appenders de arquivo
+ * escrevendo na própria thread ({@code sincrono}) e atrás de um {@code AsyncAppender}, bloqueando
+ * ({@code assincrono}) ou descartando ({@code assincrono-sem-bloqueio}) quando a fila enche. Oito
+ * threads disputam o appender, como as requisições simultâneas do Tomcat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class LogBenchmark {
+
+  @Param({"sincrono", "assincrono", "assincrono-sem-bloqueio"})
+  private String modo;
+
+  private LoggerContext loggerContext;
+  private Logger logger;
+  private Path diretorio;
+  private UUID id;
+
+  @Setup
+  public void setUp() throws IOException {
+    diretorio = Files.createTempDirectory("jmh-log");
+    loggerContext = new LoggerContext();
+    Appender<ILoggingEvent> appender = arquivo();
+    if (!"sincrono".equals(modo)) {
+      var async = new AsyncAppender();
+      async.setContext(loggerContext);
+      async.setQueueSize(8192);
+      async.setNeverBlock("assincrono-sem-bloqueio".equals(modo));
+      async.addAppender(appender);
+      async.start();
+      appender = async;
+    }
+    logger = loggerContext.getLogger("org.example.controller.MensagemController");
+    logger.setLevel(Level.INFO);
+    logger.setAdditive(false);
+    logger.addAppender(appender);
+    id = UUID.randomUUID();
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    loggerContext.stop();
+    try (var arquivos = Files.list(diretorio)) {
+      for (var arquivo : arquivos.toList()) {
+        Files.delete(arquivo);
+      }
+    }
+    Files.delete(diretorio);
+  }
+
+  @Benchmark
+  public void registrarRequisicao() {
+    logger.info("requisição para buscar mensagem foi efetuada: Id={}", id);
+  }
+
+  private Appender<ILoggingEvent> arquivo() {
+    var encoder = new PatternLayoutEncoder();
+    encoder.setContext(loggerContext);
+    encoder.setPattern("%date %-5level [%thread] %logger{35} - %msg%n");
+    encoder.start();
+    var appender = new FileAppender<ILoggingEvent>();
+    appender.setContext(loggerContext);
+    appender.setFile(diretorio.resolve("application.log").toString());
+    appender.setEncoder(encoder);
+    appender.start();
+    return appender;
+  }
+}
@@ -0,0 +1,102 @@
+package org.example.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.example.RestApiApplication;
+import org.example.dto.MensagemPagina;
+import org.example.model.Mensagem;
+import org.example.repository.MensagemRepository;
+import org.example.service.MensagemService;
+import org.example.utils.MensagemHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Camada de repositório e serviço sobre o H2 em memória, com o contexto Spring sem a camada web.
+ * As listagens de entidades e de resumos (projeção) são comparáveis pelo tempo e, com o perfil
+ * {@code gc}, pela alocação por página.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepositorioBenchmark {
+
+  private static final int TOTAL_MENSAGENS = 10_000;
+
+  private ConfigurableApplicationContext context;
+  private MensagemRepository mensagemRepository;
+  private MensagemService mensagemService;
+  private List<UUID> ids;
+
+  @Setup
+  public void setUp() {
+    context = new SpringApplicationBuilder(RestApiApplication.class)
+        .web(WebApplicationType.NONE)
+        .run("--logging.level.root=WARN", "--logging.level.org.example=WARN");
+    mensagemRepository = context.getBean(MensagemRepository.class);
+    mensagemService = context.getBean(MensagemService.class);
+    ids = new ArrayList<>(TOTAL_MENSAGENS);
+    for (int i = 0; i < TOTAL_MENSAGENS; i++) {
+      ids.add(mensagemService.criarMensagem(MensagemHelper.gerarMensagem()).getId());
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public Mensagem buscarNoRepositorio() {
+    return mensagemRepository.findById(idAleatorio()).orElseThrow();
+  }
+
+  @Benchmark
+  public Mensagem buscarNoServico() {
+    return mensagemService.buscarMensagem(idAleatorio());
+  }
+
+  @Benchmark
+  public Page<Mensagem> listarPrimeiraPagina() {
+    return mensagemService.listarMensagens(PageRequest.of(0, 10));
+  }
+
+  @Benchmark
+  public Page<Mensagem> listarPaginaProfunda() {
+    return mensagemService.listarMensagens(PageRequest.of(TOTAL_MENSAGENS / 10 - 1, 10));
+  }
+
+  @Benchmark
+  public MensagemPagina listarResumosPrimeiraPagina() {
+    return mensagemService.listarResumos(PageRequest.of(0, 10));
+  }
+
+  @Benchmark
+  public MensagemPagina listarResumosPaginaProfunda() {
+    return mensagemService.listarResumos(PageRequest.of(TOTAL_MENSAGENS / 10 - 1, 10));
+  }
+
+  private UUID idAleatorio() {
+    return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+  }
+}
@@ -0,0 +1,80 @@
+package org.example.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.example.dto.MensagemPagina;
+import org.example.dto.MensagemResumo;
+import org.example.model.Mensagem;
+import org.example.utils.MensagemHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+/**
+ * Custo do Jackson sobre {@link Mensagem}, incluindo a formatação das datas via {@code @JsonFormat},
+ * e de uma página de dez mensagens como {@code PageImpl} e como {@link MensagemPagina}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+  private ObjectMapper objectMapper;
+  private Mensagem mensagem;
+  private byte[] json;
+  private Page<Mensagem> pagina;
+  private MensagemPagina paginaResumos;
+
+  @Setup
+  public void setUp() throws Exception {
+    objectMapper = JsonMapper.builder().findAndAddModules().build();
+    mensagem = MensagemHelper.gerarMensagemCompleta();
+    json = objectMapper.writeValueAsBytes(mensagem);
+    List<Mensagem> mensagens = new ArrayList<>();
+    List<MensagemResumo> resumos = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      var item = MensagemHelper.gerarMensagemCompleta();
+      mensagens.add(item);
+      resumos.add(new MensagemResumo(item.getId(), item.getUsuario(), item.getConteudo(),
+          item.getDataCriacao(), item.getDataAlteracao(), item.getGostei(), 0L));
+    }
+    pagina = new PageImpl<>(mensagens, PageRequest.of(0, 10), 1_000);
+    paginaResumos = new MensagemPagina(resumos, 0, 10, 1_000, true);
+  }
+
+  @Benchmark
+  public byte[] serializarMensagem() throws Exception {
+    return objectMapper.writeValueAsBytes(mensagem);
+  }
+
+  @Benchmark
+  public Mensagem desserializarMensagem() throws Exception {
+    return objectMapper.readValue(json, Mensagem.class);
+  }
+
+  @Benchmark
+  public byte[] serializarPagina() throws Exception {
+    return objectMapper.writeValueAsBytes(pagina);
+  }
+
+  @Benchmark
+  public byte[] serializarPaginaResumos() throws Exception {
+    return objectMapper.writeValueAsBytes(paginaResumos);
+  }
+}
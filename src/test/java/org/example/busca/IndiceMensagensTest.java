@@ -0,0 +1,141 @@
+package org.example.busca;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Consumer;
+import org.example.dto.MensagemEvento;
+import org.example.model.Mensagem;
+import org.example.service.MensagemExportacaoService;
+import org.example.utils.DisplayTestName;
+import org.example.utils.MensagemHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class IndiceMensagensTest {
+
+  private IndiceMensagens indiceMensagens;
+  private MensagemExportacaoService mensagemExportacaoService;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    mensagemExportacaoService = mock(MensagemExportacaoService.class);
+    indiceMensagens = new IndiceMensagens("", Duration.ofMinutes(1), false,
+        mensagemExportacaoService, new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    indiceMensagens.finalizar();
+  }
+
+  @Test
+  void devePermitirBuscarMensagem_PorTermoDoConteudo() throws IOException {
+    var mensagem = indexar("reunião de planejamento adiada");
+    indexar("almoço de equipe na sexta");
+
+    var ocorrencias = buscar("planejamento");
+
+    assertThat(ocorrencias.ids()).containsExactly(mensagem.getId());
+    assertThat(ocorrencias.total()).isEqualTo(1);
+  }
+
+  @Test
+  void devePermitirBuscarMensagem_IgnorandoAcentos() throws IOException {
+    var mensagem = indexar("reunião de planejamento adiada");
+
+    assertThat(buscar("reuniao").ids()).containsExactly(mensagem.getId());
+  }
+
+  @Test
+  void devePermitirBuscarMensagens_OrdenadasPorRelevancia() throws IOException {
+    var menosRelevante = indexar("café com pão, manteiga, geleia de morango e suco de laranja");
+    var maisRelevante = indexar("café, café e mais café");
+
+    assertThat(buscar("café").ids())
+        .containsExactly(maisRelevante.getId(), menosRelevante.getId());
+  }
+
+  @Test
+  void devePermitirBuscarMensagens_ExigindoTodosOsTermos() throws IOException {
+    var mensagem = indexar("deploy da versão nova em produção");
+    indexar("deploy cancelado");
+
+    assertThat(buscar("deploy produção").ids()).containsExactly(mensagem.getId());
+  }
+
+  @Test
+  void devePermitirBuscarMensagens_Paginando() throws IOException {
+    for (int i = 0; i < 5; i++) {
+      indexar("mensagem de teste " + i);
+    }
+    indiceMensagens.atualizarLeitura();
+
+    var primeiraPagina = indiceMensagens.buscar("teste", 0, 3);
+    var segundaPagina = indiceMensagens.buscar("teste", 3, 3);
+
+    assertThat(primeiraPagina.ids()).hasSize(3);
+    assertThat(segundaPagina.ids()).hasSize(2).doesNotContainAnyElementsOf(primeiraPagina.ids());
+    assertThat(segundaPagina.total()).isEqualTo(5);
+  }
+
+  @Test
+  void deveReindexarMensagem_QuandoAlterada() throws IOException {
+    var mensagem = indexar("rascunho inicial");
+    mensagem.setConteudo("texto revisado");
+
+    indiceMensagens.atualizar(MensagemEvento.alterada(mensagem));
+
+    assertThat(buscar("rascunho").ids()).isEmpty();
+    assertThat(buscar("revisado").ids()).containsExactly(mensagem.getId());
+  }
+
+  @Test
+  void deveRemoverMensagem_QuandoApagada() throws IOException {
+    var mensagem = indexar("mensagem temporária");
+
+    indiceMensagens.atualizar(MensagemEvento.apagada(mensagem.getId()));
+
+    assertThat(buscar("temporária").ids()).isEmpty();
+  }
+
+  @Test
+  void devePermitirReconstruirIndice_APartirDoBanco() throws IOException {
+    indexar("mensagem que não está mais no banco");
+    var mensagem = mensagem("mensagem persistida");
+    when(mensagemExportacaoService.exportarMensagens(any())).thenAnswer(i -> {
+      i.<Consumer<Mensagem>>getArgument(0).accept(mensagem);
+      return 1L;
+    });
+
+    var total = indiceMensagens.reconstruir();
+
+    assertThat(total).isEqualTo(1);
+    assertThat(indiceMensagens.buscar("mensagem", 0, 10).ids()).containsExactly(mensagem.getId());
+  }
+
+  private Mensagem indexar(String conteudo) {
+    var mensagem = mensagem(conteudo);
+    indiceMensagens.atualizar(MensagemEvento.criada(mensagem));
+    return mensagem;
+  }
+
+  private IndiceMensagens.Ocorrencias buscar(String consulta) throws IOException {
+    indiceMensagens.atualizarLeitura();
+    return indiceMensagens.buscar(consulta, 0, 10);
+  }
+
+  private static Mensagem mensagem(String conteudo) {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+    mensagem.setConteudo(conteudo);
+    return mensagem;
+  }
+}
@@ -0,0 +1,183 @@
+package org.example.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.exception.MensagemNotFoundException;
+import org.example.model.Mensagem;
+import org.example.utils.DisplayTestName;
+import org.example.utils.MensagemHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class CarregamentoUnicoTest {
+
+  private static final int CHAMADAS_SIMULTANEAS = 8;
+
+  private SimpleMeterRegistry meterRegistry;
+  private CarregamentoUnico carregamentoUnico;
+  private AtomicInteger carregamentos;
+  private CountDownLatch iniciado;
+  private CountDownLatch liberar;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    carregamentoUnico = new CarregamentoUnico(true, Duration.ofSeconds(5), meterRegistry);
+    carregamentos = new AtomicInteger();
+    iniciado = new CountDownLatch(1);
+    liberar = new CountDownLatch(1);
+  }
+
+  @Test
+  void deveCompartilharCarregamento_EntreChamadasSimultaneas() throws InterruptedException {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+    var resultados = new ConcurrentLinkedQueue<Object>();
+
+    executarSimultaneamente(() -> {
+      carregamentos.incrementAndGet();
+      return mensagem;
+    }, resultados, mensagem);
+
+    assertThat(carregamentos.get()).isEqualTo(1);
+    assertThat(resultados).hasSize(CHAMADAS_SIMULTANEAS + 1)
+        .allSatisfy(resultado -> assertThat(resultado).isEqualTo(mensagem));
+    assertThat(contador("executado")).isEqualTo(1);
+    assertThat(contador("compartilhado")).isEqualTo(CHAMADAS_SIMULTANEAS);
+  }
+
+  @Test
+  void deveCompartilharExcecao_EntreChamadasSimultaneas() throws InterruptedException {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+    var excecao = new MensagemNotFoundException("mensagem não encontrada");
+    var resultados = new ConcurrentLinkedQueue<Object>();
+
+    executarSimultaneamente(() -> {
+      carregamentos.incrementAndGet();
+      throw excecao;
+    }, resultados, mensagem);
+
+    assertThat(carregamentos.get()).isEqualTo(1);
+    assertThat(resultados).hasSize(CHAMADAS_SIMULTANEAS + 1)
+        .allSatisfy(resultado -> assertThat(resultado).isSameAs(excecao));
+  }
+
+  @Test
+  void deveCarregarMensagem_QuandoEsperaEsgotada() throws InterruptedException {
+    carregamentoUnico = new CarregamentoUnico(true, Duration.ofMillis(50), meterRegistry);
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+    var lider = iniciar(() -> carregamentoUnico.carregar(mensagem.getId(), id -> {
+      iniciado.countDown();
+      aguardar(liberar);
+      return mensagem;
+    }), new ConcurrentLinkedQueue<>());
+    iniciado.await();
+
+    var mensagemObtida = carregamentoUnico.carregar(mensagem.getId(), id -> {
+      carregamentos.incrementAndGet();
+      return mensagem;
+    });
+    liberar.countDown();
+    lider.join();
+
+    assertThat(mensagemObtida).isEqualTo(mensagem);
+    assertThat(carregamentos.get()).isEqualTo(1);
+    assertThat(contador("espera_esgotada")).isEqualTo(1);
+  }
+
+  @Test
+  void deveCarregarNovamente_AposConcluirCarregamento() {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+
+    carregamentoUnico.carregar(mensagem.getId(), id -> carregar(mensagem));
+    carregamentoUnico.carregar(mensagem.getId(), id -> carregar(mensagem));
+
+    assertThat(carregamentos.get()).isEqualTo(2);
+    assertThat(contador("compartilhado")).isZero();
+  }
+
+  @Test
+  void devePropagarExcecao_QuandoDesabilitado() {
+    carregamentoUnico = new CarregamentoUnico(false, Duration.ofSeconds(1), meterRegistry);
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+
+    assertThatThrownBy(() -> carregamentoUnico.carregar(mensagem.getId(), id -> {
+      throw new MensagemNotFoundException("mensagem não encontrada");
+    })).isInstanceOf(MensagemNotFoundException.class);
+    assertThat(contador("executado")).isZero();
+  }
+
+  /**
+   * Dispara o primeiro carregamento, que só termina depois de as demais chamadas estarem
+   * aguardando por ele.
+   */
+  private void executarSimultaneamente(Carregador carregador,
+      ConcurrentLinkedQueue<Object> resultados, Mensagem mensagem) throws InterruptedException {
+    var lider = iniciar(() -> carregamentoUnico.carregar(mensagem.getId(), id -> {
+      iniciado.countDown();
+      aguardar(liberar);
+      return carregador.carregar();
+    }), resultados);
+    iniciado.await();
+    List<Thread> seguidores = new ArrayList<>();
+    for (int i = 0; i < CHAMADAS_SIMULTANEAS; i++) {
+      seguidores.add(iniciar(() -> carregamentoUnico.carregar(mensagem.getId(), id -> {
+        carregamentos.incrementAndGet();
+        return mensagem;
+      }), resultados));
+    }
+    for (var seguidor : seguidores) {
+      while (seguidor.getState() != Thread.State.TIMED_WAITING) {
+        Thread.onSpinWait();
+      }
+    }
+    liberar.countDown();
+    lider.join();
+    for (var seguidor : seguidores) {
+      seguidor.join();
+    }
+  }
+
+  private static Thread iniciar(Carregador carregador, ConcurrentLinkedQueue<Object> resultados) {
+    return Thread.ofPlatform().start(() -> {
+      try {
+        resultados.add(carregador.carregar());
+      } catch (RuntimeException e) {
+        resultados.add(e);
+      }
+    });
+  }
+
+  private static void aguardar(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Mensagem carregar(Mensagem mensagem) {
+    carregamentos.incrementAndGet();
+    return mensagem;
+  }
+
+  private double contador(String resultado) {
+    return meterRegistry.get(CarregamentoUnico.METRICA).tag("resultado", resultado).counter()
+        .count();
+  }
+
+  @FunctionalInterface
+  private interface Carregador {
+
+    Mensagem carregar();
+  }
+}
@@ -0,0 +1,159 @@
+package org.example.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.exception.MensagemNotFoundException;
+import org.example.model.Mensagem;
+import org.example.utils.DisplayTestName;
+import org.example.utils.MensagemHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class MensagemCacheTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private MensagemCache mensagemCache;
+  private AtomicInteger carregamentos;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    mensagemCache = new MensagemCache(true, 100, Duration.ofMinutes(1), meterRegistry);
+    carregamentos = new AtomicInteger();
+  }
+
+  @Test
+  void devePermitirBuscarMensagem_SemRecarregarDoBanco() {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+
+    mensagemCache.buscar(mensagem.getId(), id -> carregar(mensagem));
+    var mensagemObtida = mensagemCache.buscar(mensagem.getId(), id -> carregar(mensagem));
+
+    assertThat(mensagemObtida).isEqualTo(mensagem);
+    assertThat(carregamentos.get()).isEqualTo(1);
+    assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void deveDevolverCopia_QuandoBuscarMensagem() {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+
+    var mensagemObtida = mensagemCache.buscar(mensagem.getId(), id -> carregar(mensagem));
+    mensagemObtida.setConteudo("alterado fora do cache");
+
+    assertThat(mensagemCache.buscar(mensagem.getId(), id -> carregar(mensagem)).getConteudo())
+        .isEqualTo(mensagem.getConteudo());
+  }
+
+  @Test
+  void deveRecarregarMensagem_QuandoInvalidada() {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+    mensagemCache.buscar(mensagem.getId(), id -> carregar(mensagem));
+
+    mensagemCache.invalidar(mensagem.getId());
+    mensagemCache.buscar(mensagem.getId(), id -> carregar(mensagem));
+
+    assertThat(carregamentos.get()).isEqualTo(2);
+  }
+
+  @Test
+  void devePermitirAtualizarMensagem() {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+    mensagemCache.buscar(mensagem.getId(), id -> carregar(mensagem));
+    var mensagemAlterada = mensagem.toBuilder().conteudo("abcd").build();
+
+    mensagemCache.atualizar(mensagemAlterada);
+
+    assertThat(mensagemCache.buscar(mensagem.getId(), id -> carregar(mensagem)).getConteudo())
+        .isEqualTo("abcd");
+    assertThat(carregamentos.get()).isEqualTo(1);
+  }
+
+  @Test
+  void naoDeveRestaurarMensagem_QuandoInvalidadaAntesDaSubstituicao() {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+    mensagemCache.buscar(mensagem.getId(), id -> carregar(mensagem));
+
+    // exclusão concorrente entre a escrita no banco e a atualização do cache
+    mensagemCache.invalidar(mensagem.getId());
+    mensagemCache.substituir(mensagem.toBuilder().conteudo("abcd").build());
+
+    mensagemCache.buscar(mensagem.getId(), id -> carregar(mensagem));
+    assertThat(carregamentos.get()).isEqualTo(2);
+  }
+
+  @Test
+  void devePermitirPreencherMensagem_SemRecarregarDoBanco() {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+
+    mensagemCache.preencher(mensagemCache.geracao(), mensagem);
+
+    assertThat(mensagemCache.buscar(mensagem.getId(), id -> carregar(mensagem)))
+        .isEqualTo(mensagem);
+    assertThat(carregamentos.get()).isZero();
+  }
+
+  @Test
+  void naoDevePreencherMensagem_QuandoInvalidadaDuranteConsulta() {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+    var geracao = mensagemCache.geracao();
+
+    // exclusão concorrente entre a consulta em lote e o preenchimento do cache
+    mensagemCache.invalidar(mensagem.getId());
+    mensagemCache.preencher(geracao, mensagem);
+
+    assertThat(mensagemCache.obter(mensagem.getId())).isNull();
+  }
+
+  @Test
+  void naoDeveSobrescreverMensagem_QuandoPreencherComCopiaAntiga() {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+    var geracao = mensagemCache.geracao();
+    mensagemCache.atualizar(mensagem.toBuilder().conteudo("abcd").build());
+
+    mensagemCache.preencher(geracao, mensagem);
+
+    assertThat(mensagemCache.obter(mensagem.getId()).getConteudo()).isEqualTo("abcd");
+  }
+
+  @Test
+  void naoDeveArmazenarMensagem_QuandoNaoEncontrada() {
+    var id = UUID.randomUUID();
+
+    assertThatThrownBy(() -> mensagemCache.buscar(id, chave -> {
+      carregamentos.incrementAndGet();
+      throw new MensagemNotFoundException("mensagem não encontrada");
+    })).isInstanceOf(MensagemNotFoundException.class);
+    assertThatThrownBy(() -> mensagemCache.buscar(id, chave -> {
+      carregamentos.incrementAndGet();
+      throw new MensagemNotFoundException("mensagem não encontrada");
+    })).isInstanceOf(MensagemNotFoundException.class);
+
+    assertThat(carregamentos.get()).isEqualTo(2);
+  }
+
+  @Test
+  void deveSempreCarregarDoBanco_QuandoCacheDesabilitado() {
+    var mensagemCacheDesabilitado =
+        new MensagemCache(false, 100, Duration.ofMinutes(1), meterRegistry);
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+
+    mensagemCacheDesabilitado.buscar(mensagem.getId(), id -> carregar(mensagem));
+    mensagemCacheDesabilitado.buscar(mensagem.getId(), id -> carregar(mensagem));
+
+    assertThat(carregamentos.get()).isEqualTo(2);
+  }
+
+  private Mensagem carregar(Mensagem mensagem) {
+    carregamentos.incrementAndGet();
+    return mensagem;
+  }
+}
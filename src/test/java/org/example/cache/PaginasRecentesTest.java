@@ -0,0 +1,152 @@
+package org.example.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.dto.MensagemEvento;
+import org.example.id.GeradorIdAleatorio;
+import org.example.model.Mensagem;
+import org.example.utils.DisplayTestName;
+import org.example.utils.MensagemHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class PaginasRecentesTest {
+
+  private static final LocalDateTime AGORA = LocalDateTime.now();
+
+  private ObjectMapper objectMapper;
+  private PaginasRecentes paginasRecentes;
+  private List<Mensagem> banco;
+  private AtomicInteger carregamentos;
+
+  @BeforeEach
+  void setUp() {
+    objectMapper = JsonMapper.builder().findAndAddModules().build();
+    // duas páginas de até 5 mensagens: 10 mantidas
+    paginasRecentes = new PaginasRecentes(true, 2, Set.of(2, 5), Duration.ofMinutes(5),
+        new GeradorIdAleatorio(), objectMapper, new SimpleMeterRegistry());
+    banco = new ArrayList<>();
+    for (int i = 0; i < 12; i++) {
+      banco.add(mensagem(AGORA.minusMinutes(i)));
+    }
+    carregamentos = new AtomicInteger();
+  }
+
+  @Test
+  void deveServirPaginas_SemConsultarNovamente() throws IOException {
+    var primeiraPagina = buscar(0, 5);
+    var segundaPagina = buscar(1, 5);
+    buscar(0, 5);
+
+    assertThat(ids(primeiraPagina)).containsExactlyElementsOf(ids(banco.subList(0, 5)));
+    assertThat(ids(segundaPagina)).containsExactlyElementsOf(ids(banco.subList(5, 10)));
+    assertThat(primeiraPagina.get("totalElements").asLong()).isEqualTo(12);
+    assertThat(carregamentos.get()).isEqualTo(1);
+  }
+
+  @Test
+  void deveIgnorarPagina_ForaDasMantidas() {
+    assertThat(paginasRecentes.buscar(2, 5, this::carregar)).isEmpty();
+    assertThat(paginasRecentes.buscar(0, 3, this::carregar)).isEmpty();
+    assertThat(carregamentos.get()).isZero();
+  }
+
+  @Test
+  void deveIncluirMensagemCriada_NoInicioDaListagem() throws IOException {
+    buscar(0, 5);
+    var criada = mensagem(AGORA.plusMinutes(1));
+
+    paginasRecentes.atualizar(MensagemEvento.criada(criada));
+
+    var pagina = buscar(0, 5);
+    assertThat(ids(pagina)).first().isEqualTo(criada.getId().toString());
+    assertThat(pagina.get("totalElements").asLong()).isEqualTo(13);
+    assertThat(ids(buscar(1, 5))).last().isEqualTo(banco.get(8).getId().toString());
+    assertThat(carregamentos.get()).isEqualTo(1);
+  }
+
+  @Test
+  void deveAtualizarMensagemAlterada_MantendoGostei() throws IOException {
+    buscar(0, 2);
+    var alterada = banco.get(1).toBuilder().conteudo("conteúdo revisado").build();
+
+    paginasRecentes.gostei(alterada.getId());
+    paginasRecentes.atualizar(MensagemEvento.alterada(alterada));
+
+    var mensagem = buscar(0, 2).get("content").get(1);
+    assertThat(mensagem.get("conteudo").asText()).isEqualTo("conteúdo revisado");
+    assertThat(mensagem.get("gostei").asInt()).isEqualTo(1);
+    assertThat(carregamentos.get()).isEqualTo(1);
+  }
+
+  @Test
+  void deveRecarregarPaginas_QuandoApagadaMensagemMantida() throws IOException {
+    buscar(0, 5);
+    var apagada = banco.remove(0);
+
+    paginasRecentes.atualizar(MensagemEvento.apagada(apagada.getId()));
+
+    var pagina = buscar(0, 5);
+    assertThat(ids(pagina)).doesNotContain(apagada.getId().toString());
+    assertThat(pagina.get("totalElements").asLong()).isEqualTo(11);
+    assertThat(carregamentos.get()).isEqualTo(2);
+  }
+
+  @Test
+  void deveDescartarCarga_QuandoConcorrenteComAlteracao() throws IOException {
+    var criada = mensagem(AGORA.plusMinutes(1));
+
+    paginasRecentes.buscar(0, 5, pageable -> {
+      var pagina = carregar(pageable);
+      banco.add(0, criada);
+      paginasRecentes.atualizar(MensagemEvento.criada(criada));
+      return pagina;
+    });
+
+    assertThat(ids(buscar(0, 5))).first().isEqualTo(criada.getId().toString());
+    assertThat(carregamentos.get()).isEqualTo(2);
+  }
+
+  private JsonNode buscar(int page, int size) throws IOException {
+    var pagina = paginasRecentes.buscar(page, size, this::carregar).orElseThrow();
+    return objectMapper.readTree(pagina.json());
+  }
+
+  private Page<Mensagem> carregar(Pageable pageable) {
+    carregamentos.incrementAndGet();
+    var fim = Math.min(pageable.getPageSize(), banco.size());
+    return new PageImpl<>(List.copyOf(banco.subList(0, fim)), pageable, banco.size());
+  }
+
+  private static List<String> ids(JsonNode pagina) {
+    List<String> ids = new ArrayList<>();
+    pagina.get("content").forEach(mensagem -> ids.add(mensagem.get("id").asText()));
+    return ids;
+  }
+
+  private static List<String> ids(List<Mensagem> mensagens) {
+    return mensagens.stream().map(mensagem -> mensagem.getId().toString()).toList();
+  }
+
+  private static Mensagem mensagem(LocalDateTime dataCriacao) {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+    mensagem.setDataCriacao(dataCriacao);
+    return mensagem;
+  }
+}
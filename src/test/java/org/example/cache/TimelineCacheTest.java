@@ -0,0 +1,89 @@
+package org.example.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.dto.MensagemEvento;
+import org.example.utils.DisplayTestName;
+import org.example.utils.MensagemHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class TimelineCacheTest {
+
+  private TimelineCache timelineCache;
+  private AtomicInteger consultas;
+  private List<UUID> ids;
+
+  @BeforeEach
+  void setUp() {
+    timelineCache = new TimelineCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    consultas = new AtomicInteger();
+    ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+  }
+
+  @Test
+  void devePermitirBuscarPagina_SemConsultarNovamente() {
+    buscar("joe");
+    var idsObtidos = buscar("joe");
+
+    assertThat(idsObtidos).isEqualTo(ids);
+    assertThat(consultas.get()).isEqualTo(1);
+  }
+
+  @Test
+  void deveInvalidarPaginasDoAutor_QuandoMensagemCriada() {
+    buscar("joe");
+    buscar("ana");
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+
+    timelineCache.atualizar(MensagemEvento.criada(mensagem));
+    buscar("joe");
+    buscar("ana");
+
+    assertThat(consultas.get()).isEqualTo(3);
+  }
+
+  @Test
+  void deveInvalidarPaginasComMensagem_QuandoMensagemApagada() {
+    buscar("joe");
+
+    timelineCache.atualizar(MensagemEvento.apagada(ids.get(1)));
+    buscar("joe");
+
+    assertThat(consultas.get()).isEqualTo(2);
+  }
+
+  @Test
+  void naoDeveInvalidarPaginas_QuandoGosteiRecebido() {
+    buscar("joe");
+
+    timelineCache.atualizar(MensagemEvento.gostei(ids.get(0), 1));
+    buscar("joe");
+
+    assertThat(consultas.get()).isEqualTo(1);
+  }
+
+  @Test
+  void deveConsultarSempre_QuandoDesabilitado() {
+    timelineCache = new TimelineCache(false, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+    buscar("joe");
+    buscar("joe");
+
+    assertThat(consultas.get()).isEqualTo(2);
+  }
+
+  private List<UUID> buscar(String usuario) {
+    return timelineCache.buscar(usuario, null, 10, () -> {
+      consultas.incrementAndGet();
+      return ids;
+    });
+  }
+}
@@ -3,7 +3,11 @@ package org.example.controller;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -13,6 +17,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -22,10 +27,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import org.example.dto.MensagemBusca;
+import org.example.dto.MensagemCursor;
+import org.example.dto.MensagemPagina;
+import org.example.dto.MensagemResumo;
 import org.example.dto.MensagemRequest;
+import org.example.dto.MensagemSlice;
+import org.example.dto.PaginaSerializada;
+import org.example.exception.MensagemConflitoException;
 import org.example.exception.MensagemNotFoundException;
 import org.example.handler.GlobalExceptionHandler;
+import org.example.log.PoliticaLog;
 import org.example.model.Mensagem;
 import org.example.service.MensagemService;
 import org.example.utils.DisplayTestName;
@@ -40,7 +55,9 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
@@ -61,12 +78,15 @@ class MensagemControllerTest {
   @Mock
   private MensagemService mensagemService;
 
+  private PoliticaLog politicaLog;
+
   AutoCloseable openMocks;
 
   @BeforeEach
   void setUp() {
     openMocks = MockitoAnnotations.openMocks(this);
-    MensagemController mensagemController = new MensagemController(mensagemService);
+    politicaLog = new PoliticaLog(1.0, 0, 10_000);
+    MensagemController mensagemController = new MensagemController(mensagemService, politicaLog);
     mockMvc = MockMvcBuilders.standaloneSetup(mensagemController)
         .setControllerAdvice(new GlobalExceptionHandler())
         .addFilter((request, response, chain) -> {
@@ -132,6 +152,21 @@ void deveGerarExcecao_QuandoRegistrarMensagem_ConteudoEmBranco() throws Exceptio
   verify(mensagemService, never()).criarMensagem(any(Mensagem.class));
 }
 
+@Test
+void deveGerarExcecao_QuandoRegistrarMensagem_ConteudoExcedeTamanho() throws Exception {
+  var mensagemRequest = MensagemRequest.builder()
+      .usuario("John")
+      .conteudo("x".repeat(1001))
+      .build();
+
+  mockMvc.perform(post("/mensagens")
+          .contentType(MediaType.APPLICATION_JSON)
+          .content(asJsonString(mensagemRequest)))
+      .andExpect(status().isBadRequest())
+      .andExpect(jsonPath("$.errors.[0]").value("conteúdo deve ter no máximo 1000 caracteres"));
+  verify(mensagemService, never()).criarMensagem(any(Mensagem.class));
+}
+
 @Test
 void deveGerarExcecao_QuandoRegistrarMensagem_CamposInvalidos() throws Exception {
   var mensagemRequest = new ObjectMapper().readTree(
@@ -247,6 +282,18 @@ void deveGerarMensagemDeLog_QuandoRegistrarMensagem() throws Exception {
       assertThat(logTracker.contains("requisição para buscar mensagem foi efetuada"))
           .isTrue();
     }
+
+    @Test
+    void deveOmitirMensagemDeLog_QuandoBuscarMensagem_ForaDaAmostragem() throws Exception {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      when(mensagemService.buscarMensagem(any(UUID.class))).thenReturn(mensagem);
+      politicaLog.configurar("buscar", new PoliticaLog.Regra(0, 0));
+
+      mockMvc.perform(get("/mensagens/{id}", mensagem.getId())
+              .contentType(MediaType.APPLICATION_JSON))
+          .andExpect(status().isOk());
+      assertThat(logTracker.size()).isZero();
+    }
   }
 
   @Nested
@@ -287,7 +334,7 @@ void deveGerarMensagemDeLog_QuandoRegistrarMensagem() throws Exception {
               .content(asJsonString(mensagemRequest)))
           .andExpect(status().isNotFound())
           .andExpect(content().string("mensagem não apresenta o ID correto"));
-      verify(mensagemService, never()).apagarMensagem(any(UUID.class));
+      verify(mensagemService, never()).apagarMensagem(any(UUID.class), any());
     }
 
     @Test
@@ -302,7 +349,7 @@ void deveGerarMensagemDeLog_QuandoRegistrarMensagem() throws Exception {
           .andExpect(status().isBadRequest())
           .andExpect(content().string("ID inválido"));
       verify(mensagemService, never())
-          .apagarMensagem(any(UUID.class));
+          .apagarMensagem(any(UUID.class), any());
     }
 
     @Test
@@ -343,14 +390,14 @@ void deveGerarMensagemDeLog_QuandoRegistrarMensagem() throws Exception {
     @Test
     void devePermitirApagarMensagem() throws Exception {
       var id = UUID.fromString("259bdc02-1ab5-11ee-be56-0242ac120002");
-      when(mensagemService.apagarMensagem(any(UUID.class)))
+      when(mensagemService.apagarMensagem(any(UUID.class), any()))
           .thenReturn(true);
 
       mockMvc.perform(delete("/mensagens/{id}", id))
           .andExpect(status().isOk())
           .andExpect(content().string("mensagem removida"));
       verify(mensagemService, times(1))
-          .apagarMensagem(any(UUID.class));
+          .apagarMensagem(any(UUID.class), any());
     }
 
     @Test
@@ -363,7 +410,7 @@ void deveGerarMensagemDeLog_QuandoRegistrarMensagem() throws Exception {
           .andExpect(status().isBadRequest())
           .andExpect(content().string("ID inválido"));
       verify(mensagemService, never())
-          .apagarMensagem(any(UUID.class));
+          .apagarMensagem(any(UUID.class), any());
     }
 
     @Test
@@ -371,7 +418,7 @@ void deveGerarMensagemDeLog_QuandoRegistrarMensagem() throws Exception {
         throws Exception {
       var id = UUID.randomUUID();
 
-      when(mensagemService.apagarMensagem(any(UUID.class)))
+      when(mensagemService.apagarMensagem(any(UUID.class), any()))
           .thenThrow(new MensagemNotFoundException("mensagem não encontrada"));
 
       mockMvc.perform(delete("/mensagens/{id}", id)
@@ -379,13 +426,13 @@ void deveGerarMensagemDeLog_QuandoRegistrarMensagem() throws Exception {
           .andExpect(status().isNotFound())
           .andExpect(content().string("mensagem não encontrada"));
       verify(mensagemService, times(1))
-          .apagarMensagem(any(UUID.class));
+          .apagarMensagem(any(UUID.class), any());
     }
 
     @Test
     void deveGerarMensagemDeLog_QuandoApagarMensagem() throws Exception {
       var id = UUID.fromString("259bdc02-1ab5-11ee-be56-0242ac120002");
-      when(mensagemService.apagarMensagem(any(UUID.class))).thenReturn(true);
+      when(mensagemService.apagarMensagem(any(UUID.class), any())).thenReturn(true);
 
       mockMvc.perform(delete("/mensagens/{id}", id))
           .andExpect(status().isOk());
@@ -472,7 +519,7 @@ void deveGerarMensagemDeLog_QuandoIncrementarGostei() throws Exception {
       var mensagem = MensagemHelper.gerarMensagemCompleta();
       Page<Mensagem> page = new PageImpl<>(Collections.singletonList(
           mensagem
-      ));
+      ), PageRequest.of(0, 10), 1);
       when(mensagemService.listarMensagens(any(Pageable.class)))
           .thenReturn(page);
       mockMvc.perform(get("/mensagens")
@@ -487,10 +534,29 @@ void deveGerarMensagemDeLog_QuandoIncrementarGostei() throws Exception {
           .listarMensagens(any(Pageable.class));
     }
 
+    @Test
+    void devePermitirListarMensagens_QuandoPaginaRecenteSerializada() throws Exception {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      Page<Mensagem> page =
+          new PageImpl<>(Collections.singletonList(mensagem), PageRequest.of(0, 10), 1);
+      var json = "{\"content\":[{\"id\":\"" + mensagem.getId() + "\"}]}";
+      when(mensagemService.listarMensagensRecentes(0, 10))
+          .thenReturn(Optional.of(
+              new PaginaSerializada(page, json.getBytes(StandardCharsets.UTF_8))));
+
+      mockMvc.perform(get("/mensagens")
+              .contentType(MediaType.APPLICATION_JSON))
+          .andExpect(status().isOk())
+          .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+          .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/")))
+          .andExpect(jsonPath("$.content[0].id").value(mensagem.getId().toString()));
+      verify(mensagemService, never()).listarMensagens(any(Pageable.class));
+    }
+
     @Test
     void devePermitirListarMensagens_QuandoNaoExisteRegistro()
         throws Exception {
-      Page<Mensagem> page = new PageImpl<>(Collections.emptyList());
+      Page<Mensagem> page = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0);
       when(mensagemService.listarMensagens(any(Pageable.class)))
           .thenReturn(page);
       mockMvc.perform(get("/mensagens")
@@ -506,7 +572,7 @@ void deveGerarMensagemDeLog_QuandoIncrementarGostei() throws Exception {
     @Test
     void devePermitirListarMensagens_QuandoReceberParametrosInvalidos()
         throws Exception {
-      Page<Mensagem> page = new PageImpl<>(Collections.emptyList());
+      Page<Mensagem> page = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0);
       when(mensagemService.listarMensagens(any(Pageable.class)))
           .thenReturn(page);
       mockMvc.perform(get("/mensagens?page=2&ping=pong")
@@ -523,7 +589,7 @@ void deveGerarMensagemDeLog_QuandoIncrementarGostei() throws Exception {
       var mensagem = MensagemHelper.gerarMensagemCompleta();
       Page<Mensagem> page = new PageImpl<>(Collections.singletonList(
           mensagem
-      ));
+      ), PageRequest.of(0, 10), 1);
       when(mensagemService.listarMensagens(any(Pageable.class)))
           .thenReturn(page);
       mockMvc.perform(get("/mensagens")
@@ -536,6 +602,262 @@ void deveGerarMensagemDeLog_QuandoIncrementarGostei() throws Exception {
     }
   }
 
+  @Nested
+  class ListarResumos {
+
+    @Test
+    void devePermitirListarResumos() throws Exception {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      var resumo = new MensagemResumo(mensagem.getId(), mensagem.getUsuario(),
+          mensagem.getConteudo(), mensagem.getDataCriacao(), mensagem.getDataAlteracao(), 0, 0L);
+      when(mensagemService.listarResumos(any(Pageable.class)))
+          .thenReturn(new MensagemPagina(Collections.singletonList(resumo), 0, 10, 1, false));
+
+      mockMvc.perform(get("/mensagens/resumo")
+              .contentType(MediaType.APPLICATION_JSON))
+          .andExpect(status().isOk())
+          .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/")))
+          .andExpect(jsonPath("$.content[0].id").value(mensagem.getId().toString()))
+          .andExpect(jsonPath("$.totalElements").value(1))
+          .andExpect(jsonPath("$.pageable").doesNotExist())
+          .andExpect(jsonPath("$.sort").doesNotExist());
+      verify(mensagemService, times(1)).listarResumos(PageRequest.of(0, 10));
+    }
+  }
+
+  @Nested
+  class ListarMensagensPorCursor {
+
+    @Test
+    void devePermitirListarMensagensPorCursor() throws Exception {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      var slice = MensagemSlice.de(Collections.singletonList(mensagem), 10);
+      when(mensagemService.listarMensagensPorCursor(isNull(), anyInt()))
+          .thenReturn(slice);
+
+      mockMvc.perform(get("/mensagens/cursor")
+              .contentType(MediaType.APPLICATION_JSON))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.content[0].id").value(mensagem.getId().toString()))
+          .andExpect(jsonPath("$.size").value(10))
+          .andExpect(jsonPath("$.hasNext").value(false));
+      verify(mensagemService, times(1))
+          .listarMensagensPorCursor(isNull(), anyInt());
+    }
+
+    @Test
+    void devePermitirListarMensagensPorCursor_QuandoInformadoCursor() throws Exception {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      var cursor = MensagemCursor.de(mensagem);
+      when(mensagemService.listarMensagensPorCursor(any(MensagemCursor.class), anyInt()))
+          .thenReturn(MensagemSlice.de(Collections.emptyList(), 10));
+
+      mockMvc.perform(get("/mensagens/cursor")
+              .param("cursor", cursor.codificar())
+              .contentType(MediaType.APPLICATION_JSON))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.content", empty()));
+      verify(mensagemService, times(1))
+          .listarMensagensPorCursor(cursor, 10);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoListarMensagensPorCursor_CursorInvalido() throws Exception {
+      mockMvc.perform(get("/mensagens/cursor")
+              .param("cursor", "xpto")
+              .contentType(MediaType.APPLICATION_JSON))
+          .andExpect(status().isBadRequest())
+          .andExpect(content().string("cursor inválido"));
+      verify(mensagemService, never())
+          .listarMensagensPorCursor(any(MensagemCursor.class), anyInt());
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoListarMensagensPorCursor_TamanhoInvalido() throws Exception {
+      mockMvc.perform(get("/mensagens/cursor")
+              .param("size", "0")
+              .contentType(MediaType.APPLICATION_JSON))
+          .andExpect(status().isBadRequest())
+          .andExpect(content().string("tamanho inválido"));
+      verify(mensagemService, never())
+          .listarMensagensPorCursor(any(), anyInt());
+    }
+  }
+
+  @Nested
+  class PesquisarMensagens {
+
+    @Test
+    void devePermitirPesquisarMensagens() throws Exception {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      when(mensagemService.pesquisarMensagens("xpto", 0, 10))
+          .thenReturn(MensagemBusca.de(Collections.singletonList(mensagem), 0, 10, 1));
+
+      mockMvc.perform(get("/mensagens/busca")
+              .param("q", "xpto")
+              .contentType(MediaType.APPLICATION_JSON))
+          .andExpect(status().isOk())
+          .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/")))
+          .andExpect(jsonPath("$.content[0].id").value(mensagem.getId().toString()))
+          .andExpect(jsonPath("$.total").value(1))
+          .andExpect(jsonPath("$.hasNext").value(false));
+      verify(mensagemService, times(1)).pesquisarMensagens("xpto", 0, 10);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoPesquisarMensagens_ConsultaVazia() throws Exception {
+      mockMvc.perform(get("/mensagens/busca")
+              .param("q", " ")
+              .contentType(MediaType.APPLICATION_JSON))
+          .andExpect(status().isBadRequest())
+          .andExpect(content().string("consulta inválida"));
+      verify(mensagemService, never()).pesquisarMensagens(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoPesquisarMensagens_PaginaAlemDoLimite() throws Exception {
+      mockMvc.perform(get("/mensagens/busca")
+              .param("q", "xpto")
+              .param("page", "100")
+              .param("size", "10")
+              .contentType(MediaType.APPLICATION_JSON))
+          .andExpect(status().isBadRequest())
+          .andExpect(content().string("página inválida"));
+      verify(mensagemService, never()).pesquisarMensagens(any(), anyInt(), anyInt());
+    }
+  }
+
+  @Nested
+  class RequisicoesCondicionais {
+
+    @Test
+    void devePermitirBuscarMensagem_ComValidadores() throws Exception {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      when(mensagemService.buscarMensagem(any(UUID.class))).thenReturn(mensagem);
+
+      mockMvc.perform(get("/mensagens/{id}", mensagem.getId()))
+          .andExpect(status().isOk())
+          .andExpect(header().string(HttpHeaders.ETAG, MensagemEtag.de(mensagem)))
+          .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+    }
+
+    @Test
+    void deveRetornarNaoModificado_QuandoEtagCoincide() throws Exception {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      when(mensagemService.buscarMensagem(any(UUID.class))).thenReturn(mensagem);
+
+      mockMvc.perform(get("/mensagens/{id}", mensagem.getId())
+              .header(HttpHeaders.IF_NONE_MATCH, MensagemEtag.de(mensagem)))
+          .andExpect(status().isNotModified())
+          .andExpect(content().string(""));
+    }
+
+    @Test
+    void deveRetornarMensagem_QuandoGosteiAlterado() throws Exception {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      var etagAnterior = MensagemEtag.de(mensagem);
+      mensagem.setGostei(1);
+      when(mensagemService.buscarMensagem(any(UUID.class))).thenReturn(mensagem);
+
+      mockMvc.perform(get("/mensagens/{id}", mensagem.getId())
+              .header(HttpHeaders.IF_NONE_MATCH, etagAnterior))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.gostei").value(1));
+    }
+
+    @Test
+    void deveRetornarMensagem_QuandoGosteiAlterado_ComIfModifiedSince() throws Exception {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      mensagem.setGostei(1);
+      when(mensagemService.buscarMensagem(any(UUID.class))).thenReturn(mensagem);
+
+      mockMvc.perform(get("/mensagens/{id}", mensagem.getId())
+              .header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 31 Dec 2100 23:59:59 GMT"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.gostei").value(1));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoAlterarMensagem_EtagDivergente() throws Exception {
+      var mensagemAtual = MensagemHelper.gerarMensagemCompleta();
+      mensagemAtual.setVersao(2L);
+      when(mensagemService.alterarMensagem(any(UUID.class), any(Mensagem.class)))
+          .thenThrow(new MensagemConflitoException(mensagemAtual, 0L));
+
+      mockMvc.perform(put("/mensagens/{id}", mensagemAtual.getId())
+              .header(HttpHeaders.IF_MATCH, "\"0-0\"")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(asJsonString(MensagemHelper.gerarMensagem())))
+          .andExpect(status().isPreconditionFailed())
+          .andExpect(jsonPath("$.versaoInformada").value(0))
+          .andExpect(jsonPath("$.versaoAtual").value(2));
+      verify(mensagemService, times(1))
+          .alterarMensagem(any(UUID.class), argThat(m -> Objects.equals(m.getVersao(), 0L)));
+      verify(mensagemService, never()).buscarMensagem(any(UUID.class));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoAlterarMensagem_VersaoDesatualizada() throws Exception {
+      var mensagemAtual = MensagemHelper.gerarMensagemCompleta();
+      mensagemAtual.setVersao(2L);
+      var mensagemRequest = MensagemHelper.gerarMensagem();
+      mensagemRequest.setVersao(1L);
+      when(mensagemService.alterarMensagem(any(UUID.class), any(Mensagem.class)))
+          .thenThrow(new MensagemConflitoException(mensagemAtual, 1L));
+
+      mockMvc.perform(put("/mensagens/{id}", mensagemAtual.getId())
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(asJsonString(mensagemRequest)))
+          .andExpect(status().isConflict())
+          .andExpect(jsonPath("$.message").value("mensagem foi alterada por outra requisição"))
+          .andExpect(jsonPath("$.versaoInformada").value(1))
+          .andExpect(jsonPath("$.versaoAtual").value(2))
+          .andExpect(jsonPath("$.mensagemAtual.id").value(mensagemAtual.getId().toString()));
+    }
+
+    @Test
+    void devePermitirAlterarMensagem_QuandoEtagCoincide() throws Exception {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      mensagem.setVersao(1L);
+      when(mensagemService.alterarMensagem(any(UUID.class), any(Mensagem.class)))
+          .thenReturn(mensagem);
+
+      mockMvc.perform(put("/mensagens/{id}", mensagem.getId())
+              .header(HttpHeaders.IF_MATCH, "\"0-3\"")
+              .contentType(MediaType.APPLICATION_JSON)
+              .content(asJsonString(MensagemHelper.gerarMensagem())))
+          .andExpect(status().isOk())
+          .andExpect(header().string(HttpHeaders.ETAG, MensagemEtag.de(mensagem)));
+      verify(mensagemService, times(1))
+          .alterarMensagem(any(UUID.class), argThat(m -> Objects.equals(m.getVersao(), 0L)));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoApagarMensagem_EtagDivergente() throws Exception {
+      var mensagemAtual = MensagemHelper.gerarMensagemCompleta();
+      mensagemAtual.setVersao(2L);
+      when(mensagemService.apagarMensagem(any(UUID.class), any()))
+          .thenThrow(new MensagemConflitoException(mensagemAtual, 0L));
+
+      mockMvc.perform(delete("/mensagens/{id}", mensagemAtual.getId())
+              .header(HttpHeaders.IF_MATCH, "\"0-0\""))
+          .andExpect(status().isPreconditionFailed());
+      verify(mensagemService, times(1)).apagarMensagem(mensagemAtual.getId(), 0L);
+    }
+
+    @Test
+    void deveGerarEtagFraco_QuandoListarMensagens() throws Exception {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      Page<Mensagem> page =
+          new PageImpl<>(Collections.singletonList(mensagem), PageRequest.of(0, 10), 1);
+      when(mensagemService.listarMensagens(any(Pageable.class))).thenReturn(page);
+
+      mockMvc.perform(get("/mensagens"))
+          .andExpect(status().isOk())
+          .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"")));
+    }
+  }
+
   public static String asJsonString(final Object obj) {
     try {
       return new ObjectMapper().writeValueAsString(obj);
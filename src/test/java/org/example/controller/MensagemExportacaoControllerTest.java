@@ -0,0 +1,109 @@
+package org.example.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import org.example.model.Mensagem;
+import org.example.service.MensagemExportacaoService;
+import org.example.utils.DisplayTestName;
+import org.example.utils.MensagemHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class MensagemExportacaoControllerTest {
+
+  private MockMvc mockMvc;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+  @Mock
+  private MensagemExportacaoService mensagemExportacaoService;
+
+  AutoCloseable openMocks;
+
+  private List<Mensagem> mensagens;
+
+  @BeforeEach
+  void setUp() {
+    openMocks = MockitoAnnotations.openMocks(this);
+    mockMvc = MockMvcBuilders.standaloneSetup(
+            new MensagemExportacaoController(mensagemExportacaoService, objectMapper))
+        .build();
+    mensagens = List.of(
+        MensagemHelper.gerarMensagemCompleta(),
+        MensagemHelper.gerarMensagemCompleta());
+    when(mensagemExportacaoService.exportarMensagens(any()))
+        .thenAnswer(i -> {
+          Consumer<Mensagem> destino = i.getArgument(0);
+          mensagens.forEach(destino);
+          return (long) mensagens.size();
+        });
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    openMocks.close();
+  }
+
+  @Test
+  void devePermitirExportarMensagens() throws Exception {
+    var resultado = mockMvc.perform(asyncDispatch(iniciarExportacao(null)))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE))
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+        .andReturn();
+
+    var linhas = resultado.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+    assertThat(linhas).hasSize(2);
+    assertThat(objectMapper.readValue(linhas[0], Mensagem.class).getId())
+        .isEqualTo(mensagens.get(0).getId());
+    assertThat(objectMapper.readValue(linhas[1], Mensagem.class).getId())
+        .isEqualTo(mensagens.get(1).getId());
+  }
+
+  @Test
+  void devePermitirExportarMensagens_QuandoAceitaGzip() throws Exception {
+    var resultado = mockMvc.perform(asyncDispatch(iniciarExportacao("gzip, deflate")))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+        .andReturn();
+
+    try (var entrada = new GZIPInputStream(
+        new ByteArrayInputStream(resultado.getResponse().getContentAsByteArray()))) {
+      var linhas = new String(entrada.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+      assertThat(linhas).hasSize(2);
+    }
+  }
+
+  private MvcResult iniciarExportacao(String acceptEncoding) throws Exception {
+    var requisicao = get("/mensagens/export");
+    if (acceptEncoding != null) {
+      requisicao.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+    }
+    return mockMvc.perform(requisicao)
+        .andExpect(request().asyncStarted())
+        .andReturn();
+  }
+}
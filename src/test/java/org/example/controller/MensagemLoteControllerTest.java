@@ -0,0 +1,123 @@
+package org.example.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import org.example.dto.ItemLote;
+import org.example.dto.ResultadoLote;
+import org.example.handler.GlobalExceptionHandler;
+import org.example.model.Mensagem;
+import org.example.service.MensagemLoteService;
+import org.example.utils.DisplayTestName;
+import org.example.utils.MensagemHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class MensagemLoteControllerTest {
+
+  private MockMvc mockMvc;
+
+  @Mock
+  private MensagemLoteService mensagemLoteService;
+
+  AutoCloseable openMocks;
+
+  @BeforeEach
+  void setUp() {
+    openMocks = MockitoAnnotations.openMocks(this);
+    var mensagemLoteController = new MensagemLoteController(mensagemLoteService,
+        new ObjectMapper().findAndRegisterModules());
+    mockMvc = MockMvcBuilders.standaloneSetup(mensagemLoteController)
+        .setControllerAdvice(new GlobalExceptionHandler())
+        .build();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    openMocks.close();
+  }
+
+  @Test
+  void devePermitirRegistrarLoteDeMensagens() throws Exception {
+    var mensagens = List.of(MensagemHelper.gerarMensagemRequest(),
+        MensagemHelper.gerarMensagemRequest());
+    when(mensagemLoteService.criarMensagens(any()))
+        .thenAnswer(i -> criarTodas(i.getArgument(0)));
+
+    mockMvc.perform(post("/mensagens/lote")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(MensagemControllerTest.asJsonString(mensagens)))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.total").value(2))
+        .andExpect(jsonPath("$.criadas").value(2))
+        .andExpect(jsonPath("$.itens[0].status").value("CRIADA"));
+    verify(mensagemLoteService, times(1)).criarMensagens(any());
+  }
+
+  @Test
+  void devePermitirRegistrarLoteDeMensagens_Ndjson() throws Exception {
+    var linha = MensagemControllerTest.asJsonString(MensagemHelper.gerarMensagemRequest());
+    when(mensagemLoteService.criarMensagens(any()))
+        .thenAnswer(i -> criarTodas(i.getArgument(0)));
+
+    mockMvc.perform(post("/mensagens/lote")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(linha + "\n" + linha + "\n\n" + linha + "\n"))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.total").value(3))
+        .andExpect(jsonPath("$.criadas").value(3));
+  }
+
+  @Test
+  void deveRetornarMultiStatus_QuandoLoteParcialmenteRejeitado() throws Exception {
+    var resultado = ResultadoLote.de(List.of(
+        ItemLote.criada(0, UUID.randomUUID()),
+        ItemLote.rejeitada(1, List.of("payload inválido"))));
+    when(mensagemLoteService.criarMensagens(any())).thenReturn(resultado);
+
+    mockMvc.perform(post("/mensagens/lote")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content("{\"usuario\": \"joe\", \"conteudo\": \"xpto\"}\n{quack"))
+        .andExpect(status().isMultiStatus())
+        .andExpect(jsonPath("$.rejeitadas").value(1))
+        .andExpect(jsonPath("$.itens[1].erros[0]").value("payload inválido"));
+  }
+
+  @Test
+  void deveGerarExcecao_QuandoRegistrarLote_PayloadComXml() throws Exception {
+    mockMvc.perform(post("/mensagens/lote")
+            .contentType(MediaType.APPLICATION_XML)
+            .content("<mensagens></mensagens>"))
+        .andExpect(status().isUnsupportedMediaType());
+    verify(mensagemLoteService, never()).criarMensagens(any());
+  }
+
+  private ResultadoLote criarTodas(Iterator<Mensagem> mensagens) {
+    var itens = new ArrayList<ItemLote>();
+    var indice = 0;
+    while (mensagens.hasNext()) {
+      mensagens.next();
+      itens.add(ItemLote.criada(indice++, UUID.randomUUID()));
+    }
+    return ResultadoLote.de(itens);
+  }
+}
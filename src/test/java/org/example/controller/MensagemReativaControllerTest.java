@@ -0,0 +1,320 @@
+package org.example.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.UUID;
+import org.example.dto.MensagemRequest;
+import org.example.dto.MensagemSlice;
+import org.example.exception.MensagemConflitoException;
+import org.example.exception.MensagemNotFoundException;
+import org.example.handler.GlobalExceptionHandler;
+import org.example.model.Mensagem;
+import org.example.service.MensagemReativaService;
+import org.example.utils.DisplayTestName;
+import org.example.utils.MensagemHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class MensagemReativaControllerTest {
+
+  private WebTestClient webTestClient;
+
+  @Mock
+  private MensagemReativaService mensagemService;
+
+  AutoCloseable openMocks;
+
+  @BeforeEach
+  void setUp() {
+    openMocks = MockitoAnnotations.openMocks(this);
+    var mensagemController = new MensagemReativaController(mensagemService);
+    webTestClient = WebTestClient.bindToController(mensagemController)
+        .controllerAdvice(new GlobalExceptionHandler())
+        .build();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    openMocks.close();
+  }
+
+  @Nested
+  class RegistrarMensagem {
+
+    @Test
+    void devePermitirRegistrarMensagem() {
+      var mensagemRequest = MensagemHelper.gerarMensagemRequest();
+      when(mensagemService.criarMensagem(any(Mensagem.class)))
+          .thenAnswer(i -> Mono.just(i.getArgument(0)));
+
+      webTestClient.post()
+          .uri("/mensagens")
+          .contentType(MediaType.APPLICATION_JSON)
+          .bodyValue(mensagemRequest)
+          .exchange()
+          .expectStatus().isCreated()
+          .expectBody()
+          .jsonPath("$.usuario").isEqualTo(mensagemRequest.getUsuario())
+          .jsonPath("$.conteudo").isEqualTo(mensagemRequest.getConteudo());
+      verify(mensagemService, times(1)).criarMensagem(any(Mensagem.class));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoRegistrarMensagem_CamposInvalidos() {
+      var mensagemRequest = MensagemRequest.builder()
+          .usuario("")
+          .conteudo("")
+          .build();
+
+      webTestClient.post()
+          .uri("/mensagens")
+          .contentType(MediaType.APPLICATION_JSON)
+          .bodyValue(mensagemRequest)
+          .exchange()
+          .expectStatus().isBadRequest()
+          .expectBody()
+          .jsonPath("$.message").isEqualTo("Validation error")
+          .jsonPath("$.errors[0]").isEqualTo("conteúdo não pode estar vazio")
+          .jsonPath("$.errors[1]").isEqualTo("usuário não pode estar vazio");
+      verify(mensagemService, never()).criarMensagem(any(Mensagem.class));
+    }
+  }
+
+  @Nested
+  class BuscarMensagem {
+
+    @Test
+    void devePermitirBuscarMensagem() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      when(mensagemService.buscarMensagem(any(UUID.class))).thenReturn(Mono.just(mensagem));
+
+      webTestClient.get()
+          .uri("/mensagens/{id}", mensagem.getId())
+          .exchange()
+          .expectStatus().isOk()
+          .expectBody()
+          .jsonPath("$.id").isEqualTo(mensagem.getId().toString())
+          .jsonPath("$.dataCriacao").exists()
+          .jsonPath("$.gostei").exists();
+      verify(mensagemService, times(1)).buscarMensagem(mensagem.getId());
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoBuscarMensagem_IdNaoExistente() {
+      when(mensagemService.buscarMensagem(any(UUID.class)))
+          .thenReturn(Mono.error(new MensagemNotFoundException("mensagem não encontrada")));
+
+      webTestClient.get()
+          .uri("/mensagens/{id}", UUID.randomUUID())
+          .exchange()
+          .expectStatus().isNotFound()
+          .expectBody(String.class).isEqualTo("mensagem não encontrada");
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoBuscarMensagem_IdInvalido() {
+      webTestClient.get()
+          .uri("/mensagens/{id}", "2")
+          .exchange()
+          .expectStatus().isBadRequest()
+          .expectBody(String.class).isEqualTo("ID inválido");
+      verify(mensagemService, never()).buscarMensagem(any(UUID.class));
+    }
+  }
+
+  @Nested
+  class AlterarMensagem {
+
+    @Test
+    void devePermirirAlterarMensagem() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      when(mensagemService.alterarMensagem(any(UUID.class), any(Mensagem.class)))
+          .thenReturn(Mono.just(mensagem));
+
+      webTestClient.put()
+          .uri("/mensagens/{id}", mensagem.getId())
+          .contentType(MediaType.APPLICATION_JSON)
+          .bodyValue(mensagem)
+          .exchange()
+          .expectStatus().isOk()
+          .expectBody()
+          .jsonPath("$.conteudo").isEqualTo(mensagem.getConteudo());
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoAlterarMensagem_IdNaoCoincide() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      when(mensagemService.alterarMensagem(any(UUID.class), any(Mensagem.class)))
+          .thenReturn(Mono.error(
+              new MensagemNotFoundException("mensagem não apresenta o ID correto")));
+
+      webTestClient.put()
+          .uri("/mensagens/{id}", UUID.randomUUID())
+          .contentType(MediaType.APPLICATION_JSON)
+          .bodyValue(mensagem)
+          .exchange()
+          .expectStatus().isNotFound()
+          .expectBody(String.class).isEqualTo("mensagem não apresenta o ID correto");
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoAlterarMensagem_VersaoDesatualizada() {
+      var mensagemAtual = MensagemHelper.gerarMensagemCompleta();
+      mensagemAtual.setVersao(2L);
+      when(mensagemService.alterarMensagem(any(UUID.class), any(Mensagem.class)))
+          .thenReturn(Mono.error(new MensagemConflitoException(mensagemAtual, 1L)));
+
+      webTestClient.put()
+          .uri("/mensagens/{id}", mensagemAtual.getId())
+          .contentType(MediaType.APPLICATION_JSON)
+          .bodyValue(mensagemAtual.toBuilder().versao(1L).build())
+          .exchange()
+          .expectStatus().isEqualTo(HttpStatus.CONFLICT)
+          .expectBody()
+          .jsonPath("$.versaoInformada").isEqualTo(1)
+          .jsonPath("$.versaoAtual").isEqualTo(2);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoAlterarMensagem_EtagDivergente() {
+      var mensagemAtual = MensagemHelper.gerarMensagemCompleta();
+      mensagemAtual.setVersao(2L);
+      when(mensagemService.alterarMensagem(any(UUID.class),
+          argThat(mensagem -> Long.valueOf(1L).equals(mensagem.getVersao()))))
+          .thenReturn(Mono.error(new MensagemConflitoException(mensagemAtual, 1L)));
+
+      webTestClient.put()
+          .uri("/mensagens/{id}", mensagemAtual.getId())
+          .header(HttpHeaders.IF_MATCH, "\"1-0\"")
+          .contentType(MediaType.APPLICATION_JSON)
+          .bodyValue(mensagemAtual)
+          .exchange()
+          .expectStatus().isEqualTo(HttpStatus.PRECONDITION_FAILED)
+          .expectBody()
+          .jsonPath("$.versaoAtual").isEqualTo(2);
+    }
+  }
+
+  @Nested
+  class ApagarMensagem {
+
+    @Test
+    void devePermitirApagarMensagem() {
+      var id = UUID.randomUUID();
+      when(mensagemService.apagarMensagem(any(UUID.class))).thenReturn(Mono.just(true));
+
+      webTestClient.delete()
+          .uri("/mensagens/{id}", id)
+          .exchange()
+          .expectStatus().isOk()
+          .expectBody(String.class).isEqualTo("mensagem removida");
+      verify(mensagemService, times(1)).apagarMensagem(id);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoApagarMensagem_IdNaoExistente() {
+      when(mensagemService.apagarMensagem(any(UUID.class)))
+          .thenReturn(Mono.error(new MensagemNotFoundException("mensagem não encontrada")));
+
+      webTestClient.delete()
+          .uri("/mensagens/{id}", UUID.randomUUID())
+          .exchange()
+          .expectStatus().isNotFound();
+    }
+  }
+
+  @Nested
+  class IncrementarGostei {
+
+    @Test
+    void devePermitirIncrementarGostei() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      mensagem.setGostei(1);
+      when(mensagemService.incrementarGostei(any(UUID.class))).thenReturn(Mono.just(mensagem));
+
+      webTestClient.put()
+          .uri("/mensagens/{id}/gostei", mensagem.getId())
+          .exchange()
+          .expectStatus().isOk()
+          .expectBody()
+          .jsonPath("$.gostei").isEqualTo(1);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoIncrementarGostei_IdInvalido() {
+      webTestClient.put()
+          .uri("/mensagens/{id}/gostei", "2")
+          .exchange()
+          .expectStatus().isBadRequest()
+          .expectBody(String.class).isEqualTo("ID inválido");
+      verify(mensagemService, never()).incrementarGostei(any(UUID.class));
+    }
+  }
+
+  @Nested
+  class ListarMensagem {
+
+    @Test
+    void devePermitirListarMensagens() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      when(mensagemService.listarMensagens(any(Pageable.class)))
+          .thenReturn(Mono.just(
+              new PageImpl<>(Collections.singletonList(mensagem), PageRequest.of(0, 10), 1)));
+
+      webTestClient.get()
+          .uri("/mensagens")
+          .exchange()
+          .expectStatus().isOk()
+          .expectBody()
+          .jsonPath("$.content[0].id").isEqualTo(mensagem.getId().toString())
+          .jsonPath("$.totalElements").isEqualTo(1);
+    }
+
+    @Test
+    void devePermitirListarMensagensPorCursor() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      when(mensagemService.listarMensagensPorCursor(isNull(), anyInt()))
+          .thenReturn(Mono.just(MensagemSlice.de(Collections.singletonList(mensagem), 10)));
+
+      webTestClient.get()
+          .uri("/mensagens/cursor")
+          .exchange()
+          .expectStatus().isOk()
+          .expectBody()
+          .jsonPath("$.content[0].id").isEqualTo(mensagem.getId().toString())
+          .jsonPath("$.hasNext").isEqualTo(false);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoListarMensagensPorCursor_CursorInvalido() {
+      webTestClient.get()
+          .uri("/mensagens/cursor?cursor=xpto")
+          .exchange()
+          .expectStatus().isBadRequest()
+          .expectBody(String.class).isEqualTo("cursor inválido");
+      verify(mensagemService, never()).listarMensagensPorCursor(any(), anyInt());
+    }
+  }
+}
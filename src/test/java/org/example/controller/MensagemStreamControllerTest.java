@@ -0,0 +1,119 @@
+package org.example.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import org.example.dto.MensagemEvento;
+import org.example.stream.MensagemFeed;
+import org.example.utils.DisplayTestName;
+import org.example.utils.MensagemHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class MensagemStreamControllerTest {
+
+  private static final Pattern ID_EVENTO = Pattern.compile("id:(\\S+)");
+
+  private MockMvc mockMvc;
+
+  private MensagemFeed mensagemFeed;
+
+  @BeforeEach
+  void setUp() {
+    mensagemFeed = new MensagemFeed(10, 10, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    mockMvc = MockMvcBuilders.standaloneSetup(new MensagemStreamController(mensagemFeed))
+        .build();
+  }
+
+  @AfterEach
+  void tearDown() {
+    mensagemFeed.finalizar();
+  }
+
+  @Test
+  void devePermitirAcompanharMensagens() throws Exception {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+    var resultado = assinar(null);
+
+    mensagemFeed.publicar(MensagemEvento.criada(mensagem));
+    mensagemFeed.publicar(MensagemEvento.apagada(mensagem.getId()));
+
+    var conteudo = aguardarConteudo(resultado, "event:APAGADA");
+    assertThat(conteudo)
+        .contains("event:CRIADA")
+        .contains(mensagem.getId().toString())
+        .contains("\"conteudo\":\"" + mensagem.getConteudo() + "\"");
+    assertThat(mensagemFeed.assinantes()).isEqualTo(1);
+  }
+
+  @Test
+  void devePermitirRetomarStream_QuandoInformadoLastEventId() throws Exception {
+    var primeira = MensagemHelper.gerarMensagemCompleta();
+    var segunda = MensagemHelper.gerarMensagemCompleta();
+    var resultado = assinar(null);
+    mensagemFeed.publicar(MensagemEvento.criada(primeira));
+    mensagemFeed.publicar(MensagemEvento.criada(segunda));
+    var matcher = ID_EVENTO.matcher(aguardarConteudo(resultado, segunda.getId().toString()));
+    assertThat(matcher.find()).isTrue();
+
+    var retomada = assinar(matcher.group(1));
+
+    var conteudo = aguardarConteudo(retomada, segunda.getId().toString());
+    assertThat(conteudo).doesNotContain(primeira.getId().toString());
+  }
+
+  @Test
+  void deveEnviarReinicio_QuandoLastEventIdDesconhecido() throws Exception {
+    var resultado = assinar("xpto-42");
+
+    assertThat(aguardarConteudo(resultado, "event:REINICIO")).isNotEmpty();
+  }
+
+  @Test
+  void deveEnviarReinicio_QuandoEventosSairamDoHistorico() throws Exception {
+    var resultado = assinar(null);
+    mensagemFeed.publicar(MensagemEvento.apagada(UUID.randomUUID()));
+    var matcher = ID_EVENTO.matcher(aguardarConteudo(resultado, "event:APAGADA"));
+    assertThat(matcher.find()).isTrue();
+    for (int i = 0; i < 11; i++) {
+      mensagemFeed.publicar(MensagemEvento.gostei(UUID.randomUUID(), 1));
+    }
+
+    var retomada = assinar(matcher.group(1));
+
+    var conteudo = aguardarConteudo(retomada, "event:REINICIO");
+    assertThat(conteudo).doesNotContain("event:GOSTEI");
+  }
+
+  private MvcResult assinar(String ultimoEventoId) throws Exception {
+    var requisicao = get("/mensagens/stream");
+    if (ultimoEventoId != null) {
+      requisicao.header("Last-Event-ID", ultimoEventoId);
+    }
+    return mockMvc.perform(requisicao)
+        .andExpect(request().asyncStarted())
+        .andReturn();
+  }
+
+  private String aguardarConteudo(MvcResult resultado, String esperado) throws Exception {
+    var limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    var conteudo = resultado.getResponse().getContentAsString();
+    while (!conteudo.contains(esperado) && System.nanoTime() < limite) {
+      Thread.sleep(10);
+      conteudo = resultado.getResponse().getContentAsString();
+    }
+    assertThat(conteudo).contains(esperado);
+    return conteudo;
+  }
+}
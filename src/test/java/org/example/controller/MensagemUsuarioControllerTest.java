@@ -0,0 +1,108 @@
+package org.example.controller;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import org.example.dto.MensagemCursor;
+import org.example.dto.MensagemSlice;
+import org.example.service.MensagemService;
+import org.example.utils.DisplayTestName;
+import org.example.utils.MensagemHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class MensagemUsuarioControllerTest {
+
+  private MockMvc mockMvc;
+
+  @Mock
+  private MensagemService mensagemService;
+
+  AutoCloseable openMocks;
+
+  @BeforeEach
+  void setUp() {
+    openMocks = MockitoAnnotations.openMocks(this);
+    mockMvc = MockMvcBuilders.standaloneSetup(new MensagemUsuarioController(mensagemService))
+        .addFilter((request, response, chain) -> {
+          response.setCharacterEncoding("UTF-8");
+          chain.doFilter(request, response);
+        }, "/*")
+        .build();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    openMocks.close();
+  }
+
+  @Test
+  void devePermitirListarMensagensDoUsuario() throws Exception {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+    when(mensagemService.listarMensagensDoUsuario(eq("joe"), isNull(), anyInt()))
+        .thenReturn(MensagemSlice.de(List.of(mensagem), 10));
+
+    mockMvc.perform(get("/usuarios/{usuario}/mensagens", "joe"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, startsWith("W/\"")))
+        .andExpect(jsonPath("$.content[0].id").value(mensagem.getId().toString()))
+        .andExpect(jsonPath("$.content[0].usuario").value("joe"))
+        .andExpect(jsonPath("$.hasNext").value(false));
+    verify(mensagemService, times(1)).listarMensagensDoUsuario("joe", null, 10);
+  }
+
+  @Test
+  void devePermitirListarMensagensDoUsuario_QuandoInformadoCursor() throws Exception {
+    var cursor = MensagemCursor.de(MensagemHelper.gerarMensagemCompleta());
+    when(mensagemService.listarMensagensDoUsuario(
+        anyString(), any(MensagemCursor.class), anyInt()))
+        .thenReturn(MensagemSlice.de(List.of(), 5));
+
+    mockMvc.perform(get("/usuarios/{usuario}/mensagens", "joe")
+            .param("cursor", cursor.codificar())
+            .param("size", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content").isEmpty());
+    verify(mensagemService, times(1)).listarMensagensDoUsuario("joe", cursor, 5);
+  }
+
+  @Test
+  void deveGerarExcecao_QuandoListarMensagensDoUsuario_CursorInvalido() throws Exception {
+    mockMvc.perform(get("/usuarios/{usuario}/mensagens", "joe")
+            .param("cursor", "xpto"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().string("cursor inválido"));
+    verify(mensagemService, never()).listarMensagensDoUsuario(anyString(), any(), anyInt());
+  }
+
+  @Test
+  void deveGerarExcecao_QuandoListarMensagensDoUsuario_TamanhoInvalido() throws Exception {
+    mockMvc.perform(get("/usuarios/{usuario}/mensagens", "joe")
+            .param("size", "101"))
+        .andExpect(status().isBadRequest())
+        .andExpect(content().string("tamanho inválido"));
+    verify(mensagemService, never()).listarMensagensDoUsuario(anyString(), any(), anyInt());
+  }
+}
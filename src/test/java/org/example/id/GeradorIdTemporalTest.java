@@ -0,0 +1,86 @@
+package org.example.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.example.utils.DisplayTestName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class GeradorIdTemporalTest {
+
+  private static final long INSTANTE = 1_688_169_600_000L;
+
+  private static final Comparator<UUID> ORDEM_SEM_SINAL = Comparator
+      .<UUID>comparingLong(UUID::getMostSignificantBits)
+      .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+  @Test
+  void deveGerarUuidVersao7_ComTimestampDoRelogio() {
+    var geradorId = new GeradorIdTemporal(() -> INSTANTE);
+
+    var id = geradorId.gerar();
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(INSTANTE);
+  }
+
+  @Test
+  void deveGerarIdsCrescentes_NoMesmoMilissegundo() {
+    var geradorId = new GeradorIdTemporal(() -> INSTANTE);
+
+    var ids = gerar(geradorId, 10_000);
+
+    assertThat(ids).isSortedAccordingTo(ORDEM_SEM_SINAL).doesNotHaveDuplicates();
+    assertThat(ids.get(ids.size() - 1).getMostSignificantBits() >>> 16)
+        .as("contador esgotado adianta o timestamp")
+        .isGreaterThan(INSTANTE);
+  }
+
+  @Test
+  void deveGerarIdsCrescentes_QuandoRelogioRetrocede() {
+    var relogio = new AtomicLong(INSTANTE);
+    var geradorId = new GeradorIdTemporal(relogio::get);
+
+    var anterior = geradorId.gerar();
+    relogio.set(INSTANTE - 1_000);
+    var posterior = geradorId.gerar();
+
+    assertThat(ORDEM_SEM_SINAL.compare(posterior, anterior)).isPositive();
+  }
+
+  @Test
+  void deveGerarIdsUnicos_EntreThreads() throws Exception {
+    var geradorId = new GeradorIdTemporal();
+    List<Callable<List<UUID>>> tarefas = Collections.nCopies(8, () -> gerar(geradorId, 5_000));
+
+    List<UUID> ids = new ArrayList<>();
+    try (var executor = Executors.newFixedThreadPool(8)) {
+      for (Future<List<UUID>> resultado : executor.invokeAll(tarefas)) {
+        // cada thread observa a sequência global em ordem
+        assertThat(resultado.get()).isSortedAccordingTo(ORDEM_SEM_SINAL);
+        ids.addAll(resultado.get());
+      }
+    }
+
+    assertThat(ids).hasSize(40_000).doesNotHaveDuplicates();
+  }
+
+  private static List<UUID> gerar(GeradorId geradorId, int quantidade) {
+    List<UUID> ids = new ArrayList<>(quantidade);
+    for (int i = 0; i < quantidade; i++) {
+      ids.add(geradorId.gerar());
+    }
+    return ids;
+  }
+}
@@ -0,0 +1,77 @@
+package org.example.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.callibrity.logging.test.LogTracker;
+import com.callibrity.logging.test.LogTrackerStub;
+import java.util.stream.IntStream;
+import org.example.log.PoliticaLog.Regra;
+import org.example.utils.DisplayTestName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class PoliticaLogTest {
+
+  @RegisterExtension
+  LogTrackerStub logTracker = LogTrackerStub.create().recordForLevel(LogTracker.LogLevel.INFO)
+      .recordForType(PoliticaLog.class);
+
+  private PoliticaLog politicaLog;
+
+  @BeforeEach
+  void setUp() {
+    politicaLog = new PoliticaLog(1.0, 0, 10_000);
+  }
+
+  @Test
+  void devePermitirRegistrarTodasAsRequisicoes_ComRegraPadrao() {
+    assertThat(registrar("buscar", 100)).isEqualTo(100);
+  }
+
+  @Test
+  void deveOmitirRequisicoes_QuandoAmostragemZerada() {
+    politicaLog.configurar("buscar", new Regra(0, 0));
+
+    assertThat(registrar("buscar", 100)).isZero();
+    assertThat(registrar("listar", 100)).isEqualTo(100);
+  }
+
+  @Test
+  void deveLimitarRequisicoesRegistradas_PeloBaldeDeTokens() {
+    politicaLog.configurar("buscar", new Regra(1, 5));
+
+    assertThat(registrar("buscar", 100)).isEqualTo(5);
+  }
+
+  @Test
+  void devePermitirRestaurarRegraPadrao() {
+    politicaLog.configurar("buscar", new Regra(0, 0));
+
+    politicaLog.restaurar("buscar");
+
+    assertThat(politicaLog.regras()).containsEntry("buscar", politicaLog.regraPadrao());
+    assertThat(registrar("buscar", 10)).isEqualTo(10);
+  }
+
+  @Test
+  void deveGerarResumo_ComTotalDeRequisicoes() {
+    politicaLog.configurar("buscar", new Regra(1, 2));
+    registrar("buscar", 30);
+
+    politicaLog.resumir();
+    politicaLog.resumir();
+
+    assertThat(logTracker.size()).isEqualTo(1);
+    assertThat(logTracker.contains("30 requisições de buscar nos últimos 10s, 2 registradas"))
+        .isTrue();
+  }
+
+  private long registrar(String operacao, int requisicoes) {
+    return IntStream.range(0, requisicoes)
+        .filter(i -> politicaLog.registrar(operacao))
+        .count();
+  }
+}
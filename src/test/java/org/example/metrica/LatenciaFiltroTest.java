@@ -0,0 +1,75 @@
+package org.example.metrica;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.servlet.ServletException;
+import org.example.utils.DisplayTestName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class LatenciaFiltroTest {
+
+  private LatenciaRotas latenciaRotas;
+  private LatenciaFiltro latenciaFiltro;
+
+  @BeforeEach
+  void setUp() {
+    latenciaRotas = new LatenciaRotas(20_000);
+    latenciaFiltro = new LatenciaFiltro(latenciaRotas);
+  }
+
+  @Test
+  void deveRegistrarLatencia_PeloPadraoDaRota() throws Exception {
+    var request = new MockHttpServletRequest("GET", "/mensagens/123");
+    var response = new MockHttpServletResponse();
+
+    latenciaFiltro.doFilter(request, response, (req, res) -> {
+      req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/mensagens/{id}");
+      ((MockHttpServletResponse) res).setStatus(404);
+    });
+    latenciaRotas.rotacionar();
+
+    assertThat(latenciaRotas.latencias())
+        .singleElement()
+        .satisfies(latencia -> {
+          assertThat(latencia.metodo()).isEqualTo("GET");
+          assertThat(latencia.rota()).isEqualTo("/mensagens/{id}");
+          assertThat(latencia.status()).isEqualTo(404);
+          assertThat(latencia.janelas().get("1m").amostras()).isEqualTo(1);
+        });
+  }
+
+  @Test
+  void deveRegistrarErroInterno_QuandoRequisicaoFalhar() {
+    var request = new MockHttpServletRequest("POST", "/mensagens");
+
+    assertThatThrownBy(() -> latenciaFiltro.doFilter(request, new MockHttpServletResponse(),
+        (req, res) -> {
+          req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/mensagens");
+          throw new ServletException("falha");
+        }))
+        .isInstanceOf(ServletException.class);
+    latenciaRotas.rotacionar();
+
+    assertThat(latenciaRotas.latencias())
+        .singleElement()
+        .satisfies(latencia -> assertThat(latencia.status()).isEqualTo(500));
+  }
+
+  @Test
+  void deveIgnorarRequisicao_ForaDasRotasDeMensagens() throws Exception {
+    var request = new MockHttpServletRequest("GET", "/actuator/health");
+
+    latenciaFiltro.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+        req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/actuator/health"));
+    latenciaRotas.rotacionar();
+
+    assertThat(latenciaRotas.latencias()).isEmpty();
+  }
+}
@@ -0,0 +1,79 @@
+package org.example.metrica;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.concurrent.TimeUnit;
+import org.example.utils.DisplayTestName;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class LatenciaRotasTest {
+
+  private static final String ROTA = "/mensagens/{id}";
+
+  private LatenciaRotas latenciaRotas;
+
+  @BeforeEach
+  void setUp() {
+    latenciaRotas = new LatenciaRotas(20_000);
+  }
+
+  @Test
+  void deveCalcularPercentis_AposFecharIntervalo() {
+    registrar(200, 100);
+
+    assertThat(latenciaRotas.latencias().get(0).janelas().get("1m").amostras()).isZero();
+
+    latenciaRotas.rotacionar();
+
+    var janela = latenciaRotas.latencias().get(0).janelas().get("1m");
+    assertThat(janela.amostras()).isEqualTo(100);
+    assertThat(janela.percentis().get("p50")).isCloseTo(50, within(1.0));
+    assertThat(janela.percentis().get("p99.99")).isCloseTo(100, within(1.0));
+    assertThat(janela.maximo()).isCloseTo(100, within(1.0));
+  }
+
+  @Test
+  void deveSepararLatencias_PorMetodoRotaEStatus() {
+    registrar(200, 10);
+    registrar(404, 5);
+    latenciaRotas.registrar("DELETE", ROTA, 204, TimeUnit.MILLISECONDS.toNanos(1));
+    latenciaRotas.rotacionar();
+
+    assertThat(latenciaRotas.latencias())
+        .extracting(l -> l.metodo() + " " + l.status() + " " + l.janelas().get("15m").amostras())
+        .containsExactly("DELETE 204 1", "GET 200 10", "GET 404 5");
+  }
+
+  @Test
+  void deveDescartarIntervalos_ForaDaJanela() {
+    registrar(200, 10);
+    latenciaRotas.rotacionar();
+    for (int i = 0; i < 3; i++) {
+      latenciaRotas.rotacionar();
+    }
+
+    var janelas = latenciaRotas.latencias().get(0).janelas();
+    assertThat(janelas.get("1m").amostras()).isZero();
+    assertThat(janelas.get("5m").amostras()).isEqualTo(10);
+    assertThat(janelas.get("15m").amostras()).isEqualTo(10);
+  }
+
+  @Test
+  void deveLimitarLatencia_AoMaximoRegistravel() {
+    latenciaRotas.registrar("GET", ROTA, 200, TimeUnit.MINUTES.toNanos(5));
+    latenciaRotas.rotacionar();
+
+    assertThat(latenciaRotas.latencias().get(0).janelas().get("1m").maximo())
+        .isCloseTo(60_000, within(600.0));
+  }
+
+  private void registrar(int status, int amostras) {
+    for (int i = 1; i <= amostras; i++) {
+      latenciaRotas.registrar("GET", ROTA, status, TimeUnit.MILLISECONDS.toNanos(i));
+    }
+  }
+}
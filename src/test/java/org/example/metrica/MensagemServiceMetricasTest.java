@@ -0,0 +1,97 @@
+package org.example.metrica;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import java.util.UUID;
+import org.example.exception.MensagemNotFoundException;
+import org.example.model.Mensagem;
+import org.example.service.MensagemService;
+import org.example.utils.DisplayTestName;
+import org.example.utils.MensagemHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class MensagemServiceMetricasTest {
+
+  private PrometheusMeterRegistry meterRegistry;
+  private MensagemService mensagemServiceAlvo;
+  private MensagemService mensagemService;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    mensagemServiceAlvo = mock(MensagemService.class);
+    var proxyFactory = new AspectJProxyFactory(mensagemServiceAlvo);
+    proxyFactory.addAspect(new MensagemServiceMetricas(meterRegistry));
+    mensagemService = proxyFactory.getProxy();
+  }
+
+  @Test
+  void deveMedirOperacao_ComResultadoEncontrado() {
+    var mensagem = MensagemHelper.gerarMensagemCompleta();
+    when(mensagemServiceAlvo.buscarMensagem(mensagem.getId())).thenReturn(mensagem);
+
+    mensagemService.buscarMensagem(mensagem.getId());
+
+    var timer = meterRegistry.get(MensagemServiceMetricas.METRICA)
+        .tags("operacao", "buscarMensagem", "resultado", "found")
+        .timer();
+    assertThat(timer.count()).isEqualTo(1);
+    assertThat(meterRegistry.scrape()).contains("mensagem_servico_seconds_bucket{");
+  }
+
+  @Test
+  void deveMedirOperacao_ComResultadoCriado() {
+    when(mensagemServiceAlvo.criarMensagem(any(Mensagem.class)))
+        .thenReturn(MensagemHelper.gerarMensagemCompleta());
+
+    mensagemService.criarMensagem(MensagemHelper.gerarMensagem());
+
+    assertThat(meterRegistry.get(MensagemServiceMetricas.METRICA)
+        .tags("operacao", "criarMensagem", "resultado", "created")
+        .timer()
+        .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void deveMedirOperacao_QuandoMensagemNaoEncontrada() {
+    var id = UUID.randomUUID();
+    when(mensagemServiceAlvo.apagarMensagem(id, null))
+        .thenThrow(new MensagemNotFoundException("mensagem não encontrada"));
+
+    assertThatThrownBy(() -> mensagemService.apagarMensagem(id, null))
+        .isInstanceOf(MensagemNotFoundException.class);
+
+    assertThat(meterRegistry.get(MensagemServiceMetricas.METRICA)
+        .tags("operacao", "apagarMensagem", "resultado", "not_found")
+        .timer()
+        .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void deveMedirOperacao_QuandoArgumentoInvalido() {
+    when(mensagemServiceAlvo.alterarMensagem(any(UUID.class), any(Mensagem.class)))
+        .thenThrow(new IllegalArgumentException("ID inválido"));
+
+    assertThatThrownBy(() -> mensagemService.alterarMensagem(
+        UUID.randomUUID(), MensagemHelper.gerarMensagemCompleta()))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    assertThat(meterRegistry.get(MensagemServiceMetricas.METRICA)
+        .tags("operacao", "alterarMensagem", "resultado", "invalid_id")
+        .timer()
+        .count())
+        .isEqualTo(1);
+  }
+}
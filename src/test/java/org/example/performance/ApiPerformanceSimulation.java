@@ -1,20 +1,48 @@
 package org.example.performance;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.gatling.javaapi.core.ActionBuilder;
 import io.gatling.javaapi.core.ScenarioBuilder;
 import io.gatling.javaapi.core.Simulation;
 import io.gatling.javaapi.http.HttpProtocolBuilder;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static io.gatling.javaapi.core.CoreDsl.*;
 import static io.gatling.javaapi.http.HttpDsl.http;
 import static io.gatling.javaapi.http.HttpDsl.status;
 
+/**
+ * Carga mista sobre a API. Durante a execução o pool de conexões e as threads do Tomcat são
+ * amostrados pelo Actuator; ao final é exibido onde as requisições aguardaram: conexões pendentes
+ * indicam fila no pool, e threads ocupadas no limite indicam fila no Tomcat.
+ */
 public class ApiPerformanceSimulation extends Simulation {
 
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ScheduledExecutorService amostrador = Executors.newSingleThreadScheduledExecutor();
+
+    private final AtomicLong conexoesAtivasMaximo = new AtomicLong();
+
+    private final AtomicLong conexoesPendentesMaximo = new AtomicLong();
+
+    private final AtomicLong threadsOcupadasMaximo = new AtomicLong();
+
     private final HttpProtocolBuilder httpProtocol = http
-        .baseUrl("http://localhost:8080")
+        .baseUrl(BASE_URL)
         .header("Content-Type", "application/json");
 
     ActionBuilder adicinarMensagemRequest = http("adicionar mensagem")
@@ -32,6 +60,12 @@ public class ApiPerformanceSimulation extends Simulation {
         .queryParam("size", "10")
         .check(status().is(200));
 
+    ActionBuilder listarResumosRequest = http("listar resumos")
+        .get("/mensagens/resumo")
+        .queryParam("page", "0")
+        .queryParam("size", "10")
+        .check(status().is(200));
+
     ActionBuilder removerMensagemRequest = http("remover mensagem")
         .delete("/mensagens/#{mensagemId}")
         .check(status().is(200));
@@ -46,6 +80,9 @@ public class ApiPerformanceSimulation extends Simulation {
     ScenarioBuilder cenarioListarMensagem = scenario("Listar mensagens")
         .exec(listarMensagemRequest);
 
+    ScenarioBuilder cenarioListarResumos = scenario("Listar resumos")
+        .exec(listarResumosRequest);
+
     ScenarioBuilder cenarioAdicionarBuscarMensagem = scenario("Adicionar e Buscar mensagem")
         .exec(adicinarMensagemRequest)
         .exec(buscarMensagemRequest);
@@ -109,6 +146,16 @@ public class ApiPerformanceSimulation extends Simulation {
                 rampUsersPerSec(100)
                     .to(1)
                     .during(Duration.ofSeconds(10))
+            ),
+            cenarioListarResumos.injectOpen(
+                rampUsersPerSec(1)
+                    .to(100)
+                    .during(Duration.ofSeconds(10)),
+                constantUsersPerSec(100)
+                    .during(Duration.ofSeconds(60)),
+                rampUsersPerSec(100)
+                    .to(1)
+                    .during(Duration.ofSeconds(10))
             )
         )
         .protocols(httpProtocol)
@@ -117,4 +164,57 @@ public class ApiPerformanceSimulation extends Simulation {
             global().failedRequests().count().is(0L)
         );
     }
+
+    @Override
+    public void before() {
+        amostrador.scheduleAtFixedRate(() -> {
+            conexoesAtivasMaximo.accumulateAndGet(
+                metrica("hikaricp.connections.active", "VALUE"), Math::max);
+            conexoesPendentesMaximo.accumulateAndGet(
+                metrica("hikaricp.connections.pending", "VALUE"), Math::max);
+            threadsOcupadasMaximo.accumulateAndGet(
+                metrica("tomcat.threads.busy", "VALUE"), Math::max);
+        }, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void after() {
+        amostrador.shutdownNow();
+        var conexoes = metrica("hikaricp.connections.max", "VALUE");
+        var threads = metrica("tomcat.threads.config.max", "VALUE");
+        var esperaMaxima = metrica("hikaricp.connections.acquire", "MAX");
+        System.out.printf("pool: ativas=%d/%d, pendentes=%d, espera máxima=%dms%n",
+            conexoesAtivasMaximo.get(), conexoes, conexoesPendentesMaximo.get(), esperaMaxima);
+        System.out.printf("tomcat: threads ocupadas=%d/%d%n", threadsOcupadasMaximo.get(), threads);
+        if (conexoesPendentesMaximo.get() > 0) {
+            System.out.println("requisições aguardaram conexão: fila no pool");
+        } else if (threads > 0 && threadsOcupadasMaximo.get() >= threads) {
+            System.out.println("todas as threads ocupadas sem espera no pool: fila no Tomcat");
+        } else {
+            System.out.println("sem fila no pool nem no Tomcat");
+        }
+    }
+
+    /**
+     * Valor de uma estatística da métrica; tempos são devolvidos em milissegundos.
+     */
+    private long metrica(String nome, String estatistica) {
+        try {
+            var request = HttpRequest.newBuilder(URI.create(BASE_URL + "/actuator/metrics/" + nome))
+                .build();
+            var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            var json = objectMapper.readTree(response.body());
+            for (var medida : json.path("measurements")) {
+                if (estatistica.equals(medida.path("statistic").asText())) {
+                    var valor = medida.path("value").asDouble();
+                    return "seconds".equals(json.path("baseUnit").asText())
+                        ? Math.round(valor * 1000)
+                        : Math.round(valor);
+                }
+            }
+            return 0;
+        } catch (Exception e) {
+            return 0;
+        }
+    }
 }
@@ -0,0 +1,122 @@
+package org.example.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gatling.javaapi.core.ActionBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * Modelo fechado com muitos usuários simultâneos, para comparar a vazão e o p99 da API executando
+ * em threads de plataforma, em threads virtuais ({@code spring.threads.virtual.enabled}) ou na
+ * stack reativa (profile {@code reativo}). Durante a execução o heap e as threads da API são
+ * amostrados pelo Actuator, e ao final é exibida a memória adicional por conexão.
+ */
+public class ConcorrenciaSimulation extends Simulation {
+
+    private static final int USUARIOS = Integer.getInteger("usuarios", 1000);
+
+    private static final Duration DURACAO = Duration.ofSeconds(Integer.getInteger("duracao", 60));
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ScheduledExecutorService amostrador = Executors.newSingleThreadScheduledExecutor();
+
+    private final AtomicLong heapInicial = new AtomicLong();
+
+    private final AtomicLong heapMaximo = new AtomicLong();
+
+    private final AtomicLong threadsMaximo = new AtomicLong();
+
+    private final HttpProtocolBuilder httpProtocol = http
+        .baseUrl(BASE_URL)
+        .header("Content-Type", "application/json");
+
+    ActionBuilder adicinarMensagemRequest = http("adicionar mensagem")
+        .post("/mensagens")
+        .body(StringBody("{ \"usuario\": \"user\", \"conteudo\": \"demo\" }"))
+        .check(status().is(201))
+        .check(jsonPath("$.id").saveAs("mensagemId"));
+
+    ActionBuilder buscarMensagemRequest = http("buscar mensagem")
+        .get("/mensagens/#{mensagemId}")
+        .check(status().is(200));
+
+    ActionBuilder listarMensagemRequest = http("listar mensagens")
+        .get("/mensagens")
+        .queryParam("page", "0")
+        .queryParam("size", "10")
+        .check(status().is(200));
+
+    ScenarioBuilder cenarioConcorrencia = scenario("Concorrência")
+        .exec(adicinarMensagemRequest)
+        .forever().on(
+            exec(buscarMensagemRequest)
+                .exec(listarMensagemRequest)
+        );
+
+    {
+        setUp(
+            cenarioConcorrencia.injectClosed(
+                rampConcurrentUsers(1)
+                    .to(USUARIOS)
+                    .during(Duration.ofSeconds(10)),
+                constantConcurrentUsers(USUARIOS)
+                    .during(DURACAO)
+            )
+        )
+        .protocols(httpProtocol)
+        .maxDuration(DURACAO.plusSeconds(10))
+        .assertions(
+            global().failedRequests().percent().lt(1.0)
+        );
+    }
+
+    @Override
+    public void before() {
+        heapInicial.set(metrica("jvm.memory.used?tag=area:heap"));
+        amostrador.scheduleAtFixedRate(() -> {
+            heapMaximo.accumulateAndGet(metrica("jvm.memory.used?tag=area:heap"), Math::max);
+            threadsMaximo.accumulateAndGet(metrica("jvm.threads.live"), Math::max);
+        }, 1, 1, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void after() {
+        amostrador.shutdownNow();
+        var heapPorConexao = (heapMaximo.get() - heapInicial.get()) / USUARIOS;
+        System.out.printf("API %s: heap máximo=%d bytes, heap por conexão=%d bytes, threads=%d%n",
+            BASE_URL, heapMaximo.get(), heapPorConexao, threadsMaximo.get());
+    }
+
+    private long metrica(String nome) {
+        try {
+            var request = HttpRequest.newBuilder(URI.create(BASE_URL + "/actuator/metrics/" + nome))
+                .build();
+            var response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return objectMapper.readTree(response.body())
+                .at("/measurements/0/value")
+                .asLong();
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.performance;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * Assinantes conectados em {@code /mensagens/stream} enquanto outro cenário registra mensagens:
+ * cada assinante recebe as criações por push, sem repetir o {@code GET /mensagens} do
+ * {@link ApiPerformanceSimulation}.
+ */
+public class StreamSimulation extends Simulation {
+
+    private static final int ASSINANTES = Integer.getInteger("assinantes", 500);
+
+    private static final Duration DURACAO = Duration.ofSeconds(Integer.getInteger("duracao", 60));
+
+    private final HttpProtocolBuilder httpProtocol = http
+        .baseUrl(System.getProperty("baseUrl", "http://localhost:8080"))
+        .header("Content-Type", "application/json");
+
+    ScenarioBuilder cenarioAssinantes = scenario("Assinantes do stream")
+        .exec(sse("conectar stream").connect("/mensagens/stream")
+            .await(Duration.ofSeconds(30)).on(
+                sse.checkMessage("mensagem criada").check(regex("CRIADA"))
+            ))
+        .pause(DURACAO)
+        .exec(sse("fechar stream").close());
+
+    ScenarioBuilder cenarioAdicionarMensagem = scenario("Adicionar mensagem")
+        .exec(http("adicionar mensagem")
+            .post("/mensagens")
+            .body(StringBody("{ \"usuario\": \"user\", \"conteudo\": \"demo\" }"))
+            .check(status().is(201)));
+
+    {
+        setUp(
+            cenarioAssinantes.injectOpen(
+                rampUsers(ASSINANTES).during(Duration.ofSeconds(10))
+            ),
+            cenarioAdicionarMensagem.injectOpen(
+                nothingFor(Duration.ofSeconds(10)),
+                constantUsersPerSec(10).during(DURACAO)
+            )
+        )
+        .protocols(httpProtocol)
+        .assertions(
+            global().failedRequests().percent().lt(1.0)
+        );
+    }
+}
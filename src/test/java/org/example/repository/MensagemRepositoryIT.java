@@ -2,18 +2,27 @@ package org.example.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.regex.Pattern;
+import org.example.dto.MensagemResumo;
 import org.example.model.Mensagem;
 import org.example.utils.DisplayTestName;
 import org.example.utils.MensagemHelper;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"})
 @AutoConfigureTestDatabase
 @Transactional
 @DisplayNameGeneration(DisplayTestName.class)
@@ -22,12 +31,93 @@ class MensagemRepositoryIT {
   @Autowired
   private MensagemRepository mensagemRepository;
 
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
   @Test
   void devePermitirCriarTabela() {
     long totalTabelasCriada = mensagemRepository.count();
     assertThat(totalTabelasCriada).isNotNegative();
   }
 
+  @Test
+  void devePermitirCriarIndices() {
+    var indices = jdbcTemplate.queryForList(
+        "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE TABLE_NAME = 'MENSAGEM'",
+        String.class);
+    assertThat(indices)
+        .contains("IDX_MENSAGEM_DATA_CRIACAO_ID", "IDX_MENSAGEM_USUARIO_DATA_CRIACAO")
+        .doesNotContain("IDX_MENSAGEM_USUARIO");
+  }
+
+  @Test
+  void devePermitirListarMensagens_SemOrdenarEmMemoria() {
+    var plano = jdbcTemplate.queryForObject(
+        "EXPLAIN SELECT * FROM mensagem ORDER BY data_criacao DESC, id DESC LIMIT 10",
+        String.class);
+    assertThat(plano)
+        .contains("IDX_MENSAGEM_DATA_CRIACAO_ID")
+        .contains("index sorted");
+  }
+
+  @Test
+  void devePermitirListarMensagensPorCursor_SemPercorrerPaginasAnteriores() {
+    // Arrange: 200 mensagens mais recentes que os dados de teste; o cursor fica na 101ª
+    var inicio = LocalDateTime.of(2024, 1, 1, 0, 0);
+    for (int i = 0; i < 200; i++) {
+      jdbcTemplate.update(
+          "INSERT INTO mensagem (id, usuario, conteudo, data_criacao) VALUES (?, ?, ?, ?)",
+          UUID.randomUUID(), "joe", "xpto test", inicio.plusSeconds(i));
+    }
+    var dataCriacao = inicio.plusSeconds(99);
+    var id = jdbcTemplate.queryForObject(
+        "SELECT id FROM mensagem WHERE data_criacao = ?", UUID.class, dataCriacao);
+    // Act: mesma busca de listarMensagensPorCursor
+    var plano = jdbcTemplate.queryForObject(
+        "EXPLAIN ANALYZE SELECT * FROM mensagem "
+            + "WHERE data_criacao <= ? AND (data_criacao < ? OR id < ?) "
+            + "ORDER BY data_criacao DESC, id DESC LIMIT 10",
+        String.class, dataCriacao, dataCriacao, id);
+    // Assert: a leitura começa no cursor, e não nas 100 mensagens mais recentes
+    assertThat(plano)
+        .contains("IDX_MENSAGEM_DATA_CRIACAO_ID: DATA_CRIACAO <=")
+        .contains("index sorted");
+    var leituras = Pattern.compile("scanCount: (\\d+)").matcher(plano);
+    assertThat(leituras.find()).isTrue();
+    assertThat(Integer.parseInt(leituras.group(1)))
+        .isLessThan(100);
+  }
+
+  @Test
+  void devePermitirListarMensagensDoUsuario_PeloIndice() {
+    var plano = jdbcTemplate.queryForObject(
+        "EXPLAIN SELECT * FROM mensagem WHERE usuario = 'Adam' "
+            + "ORDER BY usuario, data_criacao DESC, id DESC LIMIT 10",
+        String.class);
+    assertThat(plano)
+        .contains("IDX_MENSAGEM_USUARIO_DATA_CRIACAO")
+        .contains("index sorted");
+  }
+
+  @Test
+  void devePermitirListarMensagensDoUsuario() {
+    // Arrange
+    var mensagem = registrarMensagem();
+    // Act
+    var mensagens = mensagemRepository.listarMensagensDoUsuario("joe", PageRequest.of(0, 10));
+    var mensagensAposCursor = mensagemRepository.listarMensagensDoUsuario(
+        "joe", mensagem.getDataCriacao(), mensagem.getId(), PageRequest.of(0, 10));
+    // Assert
+    assertThat(mensagens)
+        .extracting(Mensagem::getId)
+        .containsExactly(mensagem.getId());
+    assertThat(mensagensAposCursor)
+        .isEmpty();
+  }
+
   @Test
   void devePermitirRegistrarMensagem() {
     // Arrange
@@ -52,6 +142,27 @@ class MensagemRepositoryIT {
         .isNotNull();
   }
 
+  @Test
+  void devePermitirRegistrarMensagem_ComUmaUnicaInstrucao() {
+    // Arrange: ID atribuído e versão nula, como em criarMensagem; é a versão nula que faz o
+    // Spring Data tratar a mensagem como nova e dispensar o SELECT do merge
+    var mensagem = gerarMensagem();
+    mensagem.setId(UUID.randomUUID());
+    mensagem.setVersao(null);
+    var estatisticas = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    estatisticas.clear();
+    // Act
+    mensagemRepository.save(mensagem);
+    entityManager.flush();
+    // Assert
+    assertThat(estatisticas.getEntityInsertCount())
+        .isEqualTo(1);
+    assertThat(estatisticas.getPrepareStatementCount())
+        .isEqualTo(1);
+  }
+
   @Test
   void devePermitirConsultarMensagem() {
     // Arrange
@@ -88,6 +199,38 @@ class MensagemRepositoryIT {
         .isEmpty();
   }
 
+  @Test
+  void devePermitirAlterarConteudo_QuandoVersaoCoincide() {
+    // Arrange
+    var mensagem = registrarMensagem();
+    var id = mensagem.getId();
+    // Act
+    var alteradas = mensagemRepository.alterarConteudo(id, "abcd", LocalDateTime.now(), 0L);
+    var conflitantes = mensagemRepository.alterarConteudo(id, "efgh", LocalDateTime.now(), 0L);
+    // Assert
+    assertThat(alteradas).isEqualTo(1);
+    assertThat(conflitantes).isZero();
+    assertThat(mensagemRepository.findById(id))
+        .hasValueSatisfying(mensagemAlterada -> {
+          assertThat(mensagemAlterada.getConteudo()).isEqualTo("abcd");
+          assertThat(mensagemAlterada.getVersao()).isEqualTo(1L);
+        });
+  }
+
+  @Test
+  void devePermitirApagarMensagem_SomenteNaVersaoInformada() {
+    // Arrange
+    var mensagem = registrarMensagem();
+    var id = mensagem.getId();
+    // Act
+    var conflitantes = mensagemRepository.apagarMensagem(id, 1L);
+    var removidas = mensagemRepository.apagarMensagem(id, 0L);
+    // Assert
+    assertThat(conflitantes).isZero();
+    assertThat(removidas).isEqualTo(1);
+    assertThat(mensagemRepository.findById(id)).isEmpty();
+  }
+
   @Test
   void devePermitirListarMensagens() {
     // Act
@@ -97,6 +240,39 @@ class MensagemRepositoryIT {
         .hasSize(5);
   }
 
+  @Test
+  void devePermitirListarResumos_SemCarregarEntidades() {
+    // Arrange
+    var estatisticas = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    estatisticas.clear();
+    // Act
+    var resumos = mensagemRepository.listarResumos(PageRequest.of(0, 3));
+    // Assert
+    assertThat(resumos.getContent())
+        .extracting(MensagemResumo::usuario)
+        .containsExactly("Vick", "Eddy", "Dany");
+    assertThat(resumos.getTotalElements())
+        .isEqualTo(5);
+    assertThat(estatisticas.getEntityLoadCount())
+        .isZero();
+  }
+
+  @Test
+  void devePermitirExportarMensagens() {
+    // Arrange
+    var mensagem = registrarMensagem();
+    // Act
+    try (var mensagens = mensagemRepository.exportarMensagens()) {
+      var ids = mensagens.map(Mensagem::getId).toList();
+      // Assert
+      assertThat(ids)
+          .hasSize(6)
+          .contains(mensagem.getId());
+    }
+  }
+
   private Mensagem gerarMensagem() {
     return Mensagem.builder()
         .usuario("joe")
@@ -0,0 +1,159 @@
+package org.example.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.example.cache.MensagemCache;
+import org.example.dto.MensagemEvento;
+import org.example.repository.MensagemRepository;
+import org.example.utils.DisplayTestName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class ContadorGosteiTest {
+
+  private ContadorGostei contadorGostei;
+  @Mock
+  private MensagemRepository mensagemRepository;
+  @Mock
+  private PlatformTransactionManager transactionManager;
+  @Mock
+  private MensagemCache mensagemCache;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  AutoCloseable openMocks;
+
+  @BeforeEach
+  void setUp() {
+    openMocks = MockitoAnnotations.openMocks(this);
+    contadorGostei = new ContadorGostei(mensagemRepository,
+        new TransactionTemplate(transactionManager), mensagemCache, eventPublisher);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    openMocks.close();
+  }
+
+  @Test
+  void devePermitirAcumularGostei() {
+    var id = UUID.randomUUID();
+
+    contadorGostei.incrementar(id);
+    contadorGostei.incrementar(id);
+
+    assertThat(contadorGostei.pendente(id)).isEqualTo(2);
+    verify(mensagemRepository, never()).incrementarGostei(any(UUID.class), anyInt());
+  }
+
+  @Test
+  void devePermitirDescarregarGostei() {
+    var id = UUID.randomUUID();
+    when(mensagemRepository.incrementarGostei(any(UUID.class), anyInt())).thenReturn(1);
+    contadorGostei.incrementar(id);
+    contadorGostei.incrementar(id);
+    contadorGostei.incrementar(id);
+
+    contadorGostei.descarregar();
+
+    verify(mensagemRepository, times(1)).incrementarGostei(id, 3);
+    verify(mensagemCache, times(1)).invalidar(id);
+    verify(eventPublisher, times(1)).publishEvent(MensagemEvento.gostei(id, 3));
+    assertThat(contadorGostei.pendente(id)).isZero();
+  }
+
+  @Test
+  void naoDevePublicarEvento_QuandoMensagemNaoExisteMais() {
+    var id = UUID.randomUUID();
+    contadorGostei.incrementar(id);
+    when(mensagemRepository.incrementarGostei(any(UUID.class), anyInt())).thenReturn(0);
+
+    contadorGostei.descarregar();
+
+    verify(eventPublisher, never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  void devePermitirDescartarGostei() {
+    var id = UUID.randomUUID();
+    contadorGostei.incrementar(id);
+
+    contadorGostei.descartar(id);
+    contadorGostei.descarregar();
+
+    assertThat(contadorGostei.pendente(id)).isZero();
+    verify(mensagemRepository, never()).incrementarGostei(any(UUID.class), anyInt());
+  }
+
+  @Test
+  void deveManterGostei_QuandoDescargaFalhar() {
+    var id = UUID.randomUUID();
+    contadorGostei.incrementar(id);
+    when(mensagemRepository.incrementarGostei(any(UUID.class), anyInt()))
+        .thenThrow(new IllegalStateException("banco indisponível"));
+
+    contadorGostei.descarregar();
+
+    assertThat(contadorGostei.pendente(id)).isEqualTo(1);
+  }
+
+  @Test
+  void naoDevePerderGostei_QuandoIncrementosConcorrentes() throws Exception {
+    var id = UUID.randomUUID();
+    var totalDescarregado = new AtomicLong();
+    when(mensagemRepository.incrementarGostei(eq(id), anyInt()))
+        .thenAnswer(i -> {
+          int incremento = i.getArgument(1);
+          totalDescarregado.addAndGet(incremento);
+          return 1;
+        });
+    int threads = 8;
+    int incrementosPorThread = 10_000;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    var inicio = new CountDownLatch(1);
+    var fim = new CountDownLatch(threads);
+
+    for (int i = 0; i < threads; i++) {
+      executor.submit(() -> {
+        try {
+          inicio.await();
+          for (int j = 0; j < incrementosPorThread; j++) {
+            contadorGostei.incrementar(id);
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          fim.countDown();
+        }
+      });
+    }
+    inicio.countDown();
+    while (!fim.await(1, TimeUnit.MILLISECONDS)) {
+      contadorGostei.descarregar();
+    }
+    executor.shutdown();
+    contadorGostei.descarregar();
+
+    assertThat(totalDescarregado.get()).isEqualTo((long) threads * incrementosPorThread);
+  }
+}
@@ -0,0 +1,122 @@
+package org.example.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.validation.Validation;
+import java.util.Arrays;
+import java.util.List;
+import org.example.dto.ItemLote;
+import org.example.dto.MensagemEvento;
+import org.example.id.GeradorIdAleatorio;
+import org.example.model.Mensagem;
+import org.example.repository.MensagemRepository;
+import org.example.utils.DisplayTestName;
+import org.example.utils.MensagemHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class MensagemLoteServiceTest {
+
+  private MensagemLoteService mensagemLoteService;
+  @Mock
+  private MensagemRepository mensagemRepository;
+  @Mock
+  private PlatformTransactionManager transactionManager;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  AutoCloseable openMocks;
+
+  @BeforeEach
+  void setUp() {
+    openMocks = MockitoAnnotations.openMocks(this);
+    mensagemLoteService = new MensagemLoteServiceImpl(mensagemRepository,
+        Validation.buildDefaultValidatorFactory().getValidator(),
+        new TransactionTemplate(transactionManager), eventPublisher, new GeradorIdAleatorio());
+    ReflectionTestUtils.setField(mensagemLoteService, "tamanhoLote", 2);
+    when(mensagemRepository.saveAll(anyList()))
+        .thenAnswer(i -> List.copyOf(i.<List<Mensagem>>getArgument(0)));
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    openMocks.close();
+  }
+
+  @Test
+  void devePermitirRegistrarLoteDeMensagens() {
+    var mensagens = Arrays.asList(
+        MensagemHelper.gerarMensagem(),
+        MensagemHelper.gerarMensagem(),
+        MensagemHelper.gerarMensagem());
+
+    var resultado = mensagemLoteService.criarMensagens(mensagens.iterator());
+
+    assertThat(resultado.getTotal()).isEqualTo(3);
+    assertThat(resultado.getCriadas()).isEqualTo(3);
+    assertThat(resultado.getRejeitadas()).isZero();
+    assertThat(resultado.getItens())
+        .allSatisfy(item -> assertThat(item.getId()).isNotNull());
+    verify(mensagemRepository, times(2)).saveAll(anyList());
+    verify(eventPublisher, times(3)).publishEvent(any(MensagemEvento.class));
+  }
+
+  @Test
+  void deveRejeitarItem_QuandoMensagemInvalida() {
+    var mensagemInvalida = Mensagem.builder().usuario("").conteudo("").build();
+    var mensagens = Arrays.asList(
+        MensagemHelper.gerarMensagem(),
+        mensagemInvalida,
+        null);
+
+    var resultado = mensagemLoteService.criarMensagens(mensagens.iterator());
+
+    assertThat(resultado.getCriadas()).isEqualTo(1);
+    assertThat(resultado.getRejeitadas()).isEqualTo(2);
+    assertThat(resultado.getItens())
+        .extracting(ItemLote::getIndice)
+        .containsExactly(0, 1, 2);
+    assertThat(resultado.getItens().get(1).getErros())
+        .containsExactly("conteúdo não pode estar vazio", "usuário não pode estar vazio");
+    assertThat(resultado.getItens().get(2).getErros())
+        .containsExactly("payload inválido");
+  }
+
+  @Test
+  void deveRejeitarLote_QuandoFalharPersistencia() {
+    when(mensagemRepository.saveAll(anyList()))
+        .thenThrow(new DataIntegrityViolationException("falha"));
+    var mensagens = Arrays.asList(
+        MensagemHelper.gerarMensagem(),
+        MensagemHelper.gerarMensagem());
+
+    var resultado = mensagemLoteService.criarMensagens(mensagens.iterator());
+
+    assertThat(resultado.getCriadas()).isZero();
+    assertThat(resultado.getRejeitadas()).isEqualTo(2);
+    verify(eventPublisher, never()).publishEvent(any(MensagemEvento.class));
+  }
+
+  @Test
+  void naoDevePersistir_QuandoLoteVazio() {
+    var resultado = mensagemLoteService.criarMensagens(List.<Mensagem>of().iterator());
+
+    assertThat(resultado.getTotal()).isZero();
+    verify(mensagemRepository, never()).saveAll(anyList());
+  }
+}
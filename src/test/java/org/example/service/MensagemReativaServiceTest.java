@@ -0,0 +1,196 @@
+package org.example.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.example.exception.MensagemConflitoException;
+import org.example.exception.MensagemNotFoundException;
+import org.example.id.GeradorIdTemporal;
+import org.example.model.Mensagem;
+import org.example.repository.MensagemReativaRepository;
+import org.example.utils.DisplayTestName;
+import org.example.utils.MensagemHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+@DisplayNameGeneration(DisplayTestName.class)
+class MensagemReativaServiceTest {
+
+  private MensagemReativaService mensagemService;
+
+  @Mock
+  private MensagemReativaRepository mensagemRepository;
+
+  AutoCloseable openMocks;
+
+  @BeforeEach
+  void setUp() {
+    openMocks = MockitoAnnotations.openMocks(this);
+    mensagemService = new MensagemReativaServiceImpl(mensagemRepository, new GeradorIdTemporal());
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    openMocks.close();
+  }
+
+  @Nested
+  class RegistrarMensagem {
+
+    @Test
+    void devePermitirRegistrarMensagem() {
+      when(mensagemRepository.salvar(any(Mensagem.class)))
+          .thenAnswer(i -> Mono.just(i.getArgument(0)));
+
+      StepVerifier.create(mensagemService.criarMensagem(MensagemHelper.gerarMensagem()))
+          .assertNext(mensagem -> {
+            assertThat(mensagem.getId()).isNotNull();
+            assertThat(mensagem.getDataCriacao()).isNotNull();
+            assertThat(mensagem.getDataAlteracao()).isEqualTo(mensagem.getDataCriacao());
+          })
+          .verifyComplete();
+    }
+  }
+
+  @Nested
+  class BuscarMensagem {
+
+    @Test
+    void deveGerarExcecao_QuandoBuscarMensagem_IdNaoExistente() {
+      when(mensagemRepository.buscar(any(UUID.class))).thenReturn(Mono.empty());
+
+      StepVerifier.create(mensagemService.buscarMensagem(UUID.randomUUID()))
+          .expectErrorMatches(e -> e instanceof MensagemNotFoundException
+              && e.getMessage().equals("mensagem não encontrada"))
+          .verify();
+    }
+  }
+
+  @Nested
+  class AlterarMensagem {
+
+    @Test
+    void devePermitirAlterarMensagem() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      var mensagemNova = mensagem.toBuilder().conteudo("abcd").build();
+      when(mensagemRepository.buscar(mensagem.getId()))
+          .thenReturn(Mono.just(mensagem), Mono.just(mensagemNova));
+      when(mensagemRepository.alterarConteudo(any(UUID.class), any(String.class),
+          any(LocalDateTime.class), any())).thenReturn(Mono.just(1L));
+
+      StepVerifier.create(mensagemService.alterarMensagem(mensagem.getId(), mensagemNova))
+          .assertNext(mensagemAlterada ->
+              assertThat(mensagemAlterada.getConteudo()).isEqualTo("abcd"))
+          .verifyComplete();
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoAlterarMensagem_VersaoDesatualizada() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      mensagem.setVersao(2L);
+      var mensagemNova = mensagem.toBuilder().conteudo("abcd").versao(1L).build();
+      when(mensagemRepository.buscar(mensagem.getId())).thenReturn(Mono.just(mensagem));
+      when(mensagemRepository.alterarConteudo(any(UUID.class), any(String.class),
+          any(LocalDateTime.class), eq(1L))).thenReturn(Mono.just(0L));
+
+      StepVerifier.create(mensagemService.alterarMensagem(mensagem.getId(), mensagemNova))
+          .expectErrorMatches(e -> e instanceof MensagemConflitoException conflito
+              && conflito.getVersaoInformada() == 1L
+              && conflito.getMensagemAtual().getVersao() == 2L)
+          .verify();
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoAlterarMensagem_IdNaoCoincide() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      var mensagemNova = mensagem.toBuilder().id(UUID.randomUUID()).build();
+      when(mensagemRepository.buscar(mensagem.getId())).thenReturn(Mono.just(mensagem));
+
+      StepVerifier.create(mensagemService.alterarMensagem(mensagem.getId(), mensagemNova))
+          .expectErrorMessage("mensagem não apresenta o ID correto")
+          .verify();
+      verify(mensagemRepository, never()).alterarConteudo(any(), any(), any(), any());
+    }
+  }
+
+  @Nested
+  class ApagarMensagem {
+
+    @Test
+    void deveGerarExcecao_QuandoApagarMensagem_IdNaoExistente() {
+      when(mensagemRepository.apagar(any(UUID.class))).thenReturn(Mono.just(0L));
+
+      StepVerifier.create(mensagemService.apagarMensagem(UUID.randomUUID()))
+          .expectError(MensagemNotFoundException.class)
+          .verify();
+    }
+  }
+
+  @Nested
+  class IncrementarGostei {
+
+    @Test
+    void devePermitirIncrementarGostei() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      mensagem.setGostei(1);
+      when(mensagemRepository.incrementarGostei(mensagem.getId())).thenReturn(Mono.just(1L));
+      when(mensagemRepository.buscar(mensagem.getId())).thenReturn(Mono.just(mensagem));
+
+      StepVerifier.create(mensagemService.incrementarGostei(mensagem.getId()))
+          .assertNext(mensagemAlterada -> assertThat(mensagemAlterada.getGostei()).isEqualTo(1))
+          .verifyComplete();
+    }
+  }
+
+  @Nested
+  class ListarMensagem {
+
+    @Test
+    void devePermitirListarMensagens() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      when(mensagemRepository.listar(anyLong(), anyInt())).thenReturn(Flux.just(mensagem));
+      when(mensagemRepository.contar()).thenReturn(Mono.just(11L));
+
+      StepVerifier.create(mensagemService.listarMensagens(PageRequest.of(1, 10)))
+          .assertNext(page -> {
+            assertThat(page.getContent()).containsExactly(mensagem);
+            assertThat(page.getTotalElements()).isEqualTo(11L);
+          })
+          .verifyComplete();
+      verify(mensagemRepository).listar(10L, 10);
+    }
+
+    @Test
+    void devePermitirListarMensagensPorCursor() {
+      var mensagens = Flux.just(MensagemHelper.gerarMensagemCompleta(),
+          MensagemHelper.gerarMensagemCompleta());
+      when(mensagemRepository.listarPorCursor(isNull(), anyInt())).thenReturn(mensagens);
+
+      StepVerifier.create(mensagemService.listarMensagensPorCursor(null, 1))
+          .assertNext(slice -> {
+            assertThat(slice.getContent()).hasSize(1);
+            assertThat(slice.isHasNext()).isTrue();
+          })
+          .verifyComplete();
+      verify(mensagemRepository).listarPorCursor(null, 2);
+    }
+  }
+}
@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import jakarta.transaction.Transactional;
 import java.util.UUID;
+import org.example.dto.MensagemCursor;
+import org.example.exception.MensagemConflitoException;
 import org.example.exception.MensagemNotFoundException;
 import org.example.model.Mensagem;
 import org.example.repository.MensagemRepository;
@@ -113,10 +115,25 @@ class MensagemServiceIT {
         .hasMessage("mensagem não apresenta o ID correto");
   }
 
+  @Test
+  void deveGerarExcecao_QuandoAlterarMensagem_VersaoDesatualizada() {
+    var mensagemOriginal = MensagemHelper.registrarMensagem(mensagemRepository);
+    var primeiraEdicao = mensagemOriginal.toBuilder().conteudo("abcd").build();
+    var segundaEdicao = mensagemOriginal.toBuilder().conteudo("efgh").build();
+    mensagemService.alterarMensagem(mensagemOriginal.getId(), primeiraEdicao);
+
+    assertThatThrownBy(
+        () -> mensagemService.alterarMensagem(mensagemOriginal.getId(), segundaEdicao))
+        .isInstanceOf(MensagemConflitoException.class)
+        .hasMessage("mensagem foi alterada por outra requisição");
+    assertThat(mensagemService.buscarMensagem(mensagemOriginal.getId()).getConteudo())
+        .isEqualTo("abcd");
+  }
+
   @Test
   void devePermitirApagarMensagem() {
     var mensagemRegistrada = MensagemHelper.registrarMensagem(mensagemRepository);
-    var resultado = mensagemService.apagarMensagem(mensagemRegistrada.getId());
+    var resultado = mensagemService.apagarMensagem(mensagemRegistrada.getId(), null);
     assertThat(resultado).isTrue();
   }
 
@@ -149,4 +166,23 @@ class MensagemServiceIT {
     assertThat(mensagens).isEmpty();
   }
 
+  @Test
+  void devePermitirListarMensagensPorCursor() {
+    var primeiraPagina = mensagemService.listarMensagensPorCursor(null, 2);
+    var segundaPagina = mensagemService.listarMensagensPorCursor(
+        MensagemCursor.decodificar(primeiraPagina.getNextCursor()), 2);
+    var terceiraPagina = mensagemService.listarMensagensPorCursor(
+        MensagemCursor.decodificar(segundaPagina.getNextCursor()), 2);
+
+    assertThat(primeiraPagina.getContent())
+        .extracting(Mensagem::getUsuario)
+        .containsExactly("Vick", "Eddy");
+    assertThat(segundaPagina.getContent())
+        .extracting(Mensagem::getUsuario)
+        .containsExactly("Dany", "Diva");
+    assertThat(terceiraPagina.getContent())
+        .extracting(Mensagem::getUsuario)
+        .containsExactly("Adam");
+    assertThat(terceiraPagina.isHasNext()).isFalse();
+  }
 }
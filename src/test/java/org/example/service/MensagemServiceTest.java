@@ -4,17 +4,33 @@ package org.example.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.example.busca.IndiceMensagens;
+import org.example.cache.CarregamentoUnico;
+import org.example.cache.MensagemCache;
+import org.example.cache.PaginasRecentes;
+import org.example.cache.TimelineCache;
+import org.example.dto.MensagemCursor;
+import org.example.dto.MensagemEvento;
+import org.example.dto.MensagemResumo;
+import org.example.exception.MensagemConflitoException;
 import org.example.exception.MensagemNotFoundException;
+import org.example.id.GeradorIdAleatorio;
+import org.example.id.GeradorIdTemporal;
 import org.example.model.Mensagem;
 import org.example.repository.MensagemRepository;
 import org.example.utils.DisplayTestName;
@@ -26,8 +42,10 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 @DisplayNameGeneration(DisplayTestName.class)
@@ -36,12 +54,26 @@ class MensagemServiceTest {
   private MensagemService mensagemService;
   @Mock
   private MensagemRepository mensagemRepository;
+  @Mock
+  private ContadorGostei contadorGostei;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+  @Mock
+  private IndiceMensagens indiceMensagens;
+  @Mock
+  private PaginasRecentes paginasRecentes;
   AutoCloseable openMocks;
 
   @BeforeEach
   void setUp() {
     openMocks = MockitoAnnotations.openMocks(this);
-    mensagemService = new MensagemServiceImpl(mensagemRepository);
+    mensagemService = new MensagemServiceImpl(mensagemRepository, contadorGostei,
+        new MensagemCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+        eventPublisher, new GeradorIdAleatorio(),
+        new TimelineCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+        indiceMensagens,
+        new CarregamentoUnico(true, Duration.ofSeconds(1), new SimpleMeterRegistry()),
+        paginasRecentes);
   }
 
   @AfterEach
@@ -70,6 +102,20 @@ class MensagemServiceTest {
       assertThat(mensagemArmazenada.getConteudo())
           .isEqualTo(mensagem.getConteudo());
       verify(mensagemRepository, times(1)).save(mensagem);
+      verify(eventPublisher, times(1)).publishEvent(MensagemEvento.criada(mensagemArmazenada));
+    }
+
+    @Test
+    void devePermitirRegistrarMensagem_DescartandoVersaoInformada() {
+      var mensagem = MensagemHelper.gerarMensagem();
+      mensagem.setVersao(3L);
+      when(mensagemRepository.save(any(Mensagem.class)))
+          .thenAnswer(i -> i.getArgument(0));
+
+      mensagemService.criarMensagem(mensagem);
+
+      // com versão o Spring Data trataria a mensagem como existente e faria um merge
+      verify(mensagemRepository, times(1)).save(argThat(salva -> salva.getVersao() == null));
     }
   }
 
@@ -121,15 +167,18 @@ class MensagemServiceTest {
       var id = UUID.randomUUID();
       var mensagemAntiga = MensagemHelper.gerarMensagem();
       mensagemAntiga.setId(id);
-      var mensagemNova = mensagemAntiga;
+      mensagemAntiga.setVersao(0L);
+      var mensagemNova = mensagemAntiga.toBuilder().build();
       mensagemNova.setConteudo("abcd");
+      mensagemAntiga.setVersao(1L);
+      mensagemAntiga.setConteudo("abcd");
 
+      when(mensagemRepository.alterarConteudo(
+          any(UUID.class), any(String.class), any(LocalDateTime.class), any()))
+          .thenReturn(1);
       when(mensagemRepository.findById(any(UUID.class)))
           .thenReturn(Optional.of(mensagemAntiga));
 
-      when(mensagemRepository.save(any(Mensagem.class)))
-          .thenAnswer(i -> i.getArgument(0));
-
       var mensagemObtida = mensagemService
           .alterarMensagem(id, mensagemNova);
 
@@ -142,7 +191,54 @@ class MensagemServiceTest {
           .isEqualTo(mensagemNova.getUsuario());
       assertThat(mensagemObtida.getConteudo())
           .isEqualTo(mensagemNova.getConteudo());
-      verify(mensagemRepository, times(1)).save(any(Mensagem.class));
+      assertThat(mensagemObtida.getVersao())
+          .isEqualTo(1L);
+      verify(mensagemRepository, times(1))
+          .alterarConteudo(eq(id), eq("abcd"), any(LocalDateTime.class), eq(0L));
+      verify(mensagemRepository, never()).save(any(Mensagem.class));
+      verify(eventPublisher, times(1)).publishEvent(any(MensagemEvento.class));
+    }
+
+    @Test
+    void devePermitirAlterarMensagem_SemReler_QuandoMensagemEmCache() {
+      var id = UUID.randomUUID();
+      var mensagem = MensagemHelper.gerarMensagem();
+      mensagem.setId(id);
+      mensagem.setVersao(3L);
+      when(mensagemRepository.findById(id)).thenReturn(Optional.of(mensagem));
+      mensagemService.buscarMensagem(id);
+      var mensagemNova = mensagem.toBuilder().conteudo("abcd").build();
+      when(mensagemRepository.alterarConteudo(
+          any(UUID.class), any(String.class), any(LocalDateTime.class), any()))
+          .thenReturn(1);
+
+      var mensagemObtida = mensagemService.alterarMensagem(id, mensagemNova);
+
+      assertThat(mensagemObtida.getConteudo()).isEqualTo("abcd");
+      assertThat(mensagemObtida.getVersao()).isEqualTo(4L);
+      verify(mensagemRepository, times(1)).findById(id);
+    }
+
+    @Test
+    void devePermitirAlterarMensagem_RelendoVersao_QuandoEscritaIncondicional() {
+      var id = UUID.randomUUID();
+      var mensagem = MensagemHelper.gerarMensagem();
+      mensagem.setId(id);
+      mensagem.setVersao(3L);
+      // outra escrita incondicional gravou a versão 4 depois de a mensagem entrar em cache
+      var mensagemGravada = mensagem.toBuilder().conteudo("abcd").versao(5L).build();
+      when(mensagemRepository.findById(id))
+          .thenReturn(Optional.of(mensagem), Optional.of(mensagemGravada));
+      mensagemService.buscarMensagem(id);
+      var mensagemNova = mensagem.toBuilder().conteudo("abcd").versao(null).build();
+      when(mensagemRepository.alterarConteudo(
+          any(UUID.class), any(String.class), any(LocalDateTime.class), any()))
+          .thenReturn(1);
+
+      var mensagemObtida = mensagemService.alterarMensagem(id, mensagemNova);
+
+      assertThat(mensagemObtida.getVersao()).isEqualTo(5L);
+      verify(mensagemRepository, times(2)).findById(id);
     }
 
     @Test
@@ -152,12 +248,74 @@ class MensagemServiceTest {
       mensagemAntiga.setId(id);
       var mensagemNova = mensagemAntiga.toBuilder().build();
       mensagemNova.setId(UUID.randomUUID());
+      when(mensagemRepository.existsById(id)).thenReturn(true);
+
+      assertThatThrownBy(
+          () -> mensagemService.alterarMensagem(id, mensagemNova))
+          .isInstanceOf(MensagemNotFoundException.class)
+          .hasMessage("mensagem não apresenta o ID correto");
+      verify(mensagemRepository, never())
+          .alterarConteudo(any(UUID.class), any(String.class), any(LocalDateTime.class), any());
+      verify(mensagemRepository, never()).findById(any(UUID.class));
+      verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoAlterarMensagem_IdNaoCoincide_MensagemNaoExistente() {
+      var id = UUID.randomUUID();
+      var mensagemNova = MensagemHelper.gerarMensagem();
+      mensagemNova.setId(UUID.randomUUID());
+      when(mensagemRepository.existsById(id)).thenReturn(false);
+
+      assertThatThrownBy(
+          () -> mensagemService.alterarMensagem(id, mensagemNova))
+          .isInstanceOf(MensagemNotFoundException.class)
+          .hasMessage("mensagem não encontrada");
+      verify(mensagemRepository, never())
+          .alterarConteudo(any(UUID.class), any(String.class), any(LocalDateTime.class), any());
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoAlterarMensagem_VersaoDesatualizada() {
+      var id = UUID.randomUUID();
+      var mensagemAtual = MensagemHelper.gerarMensagem();
+      mensagemAtual.setId(id);
+      mensagemAtual.setVersao(2L);
+      var mensagemNova = mensagemAtual.toBuilder().conteudo("abcd").versao(1L).build();
+
+      when(mensagemRepository.alterarConteudo(
+          any(UUID.class), any(String.class), any(LocalDateTime.class), any()))
+          .thenReturn(0);
+      when(mensagemRepository.findById(id))
+          .thenReturn(Optional.of(mensagemAtual));
+
+      assertThatThrownBy(
+          () -> mensagemService.alterarMensagem(id, mensagemNova))
+          .isInstanceOf(MensagemConflitoException.class)
+          .satisfies(e -> {
+            var conflito = (MensagemConflitoException) e;
+            assertThat(conflito.getVersaoInformada()).isEqualTo(1L);
+            assertThat(conflito.getMensagemAtual().getVersao()).isEqualTo(2L);
+          });
+      verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoAlterarMensagem_IdNaoExistente() {
+      var id = UUID.randomUUID();
+      var mensagemNova = MensagemHelper.gerarMensagem();
+      mensagemNova.setId(id);
+
+      when(mensagemRepository.alterarConteudo(
+          any(UUID.class), any(String.class), any(LocalDateTime.class), any()))
+          .thenReturn(0);
+      when(mensagemRepository.findById(id))
+          .thenReturn(Optional.empty());
 
       assertThatThrownBy(
           () -> mensagemService.alterarMensagem(id, mensagemNova))
           .isInstanceOf(MensagemNotFoundException.class)
           .hasMessage("mensagem não encontrada");
-      verify(mensagemRepository, never()).save(any(Mensagem.class));
     }
 
   }
@@ -168,18 +326,33 @@ class MensagemServiceTest {
     @Test
     void devePermitirApagarMensagem() {
       var id = UUID.fromString("51fa607a-1e61-11ee-be56-0242ac120002");
-      var mensagem = MensagemHelper.gerarMensagem();
-      mensagem.setId(id);
-      when(mensagemRepository.findById(id))
-          .thenReturn(Optional.of(mensagem));
-      doNothing()
-          .when(mensagemRepository).deleteById(id);
+      when(mensagemRepository.apagarMensagem(id, null))
+          .thenReturn(1);
 
-      var resultado = mensagemService.apagarMensagem(id);
+      var resultado = mensagemService.apagarMensagem(id, null);
 
       assertThat(resultado).isTrue();
-      verify(mensagemRepository, times(1)).findById(any(UUID.class));
-      verify(mensagemRepository, times(1)).delete(any(Mensagem.class));
+      verify(mensagemRepository, never()).findById(any(UUID.class));
+      verify(mensagemRepository, times(1)).apagarMensagem(id, null);
+      verify(contadorGostei, times(1)).descartar(id);
+      verify(eventPublisher, times(1)).publishEvent(MensagemEvento.apagada(id));
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoApagarMensagem_VersaoDesatualizada() {
+      var id = UUID.randomUUID();
+      var mensagemAtual = MensagemHelper.gerarMensagem();
+      mensagemAtual.setId(id);
+      mensagemAtual.setVersao(5L);
+      when(mensagemRepository.apagarMensagem(id, 4L))
+          .thenReturn(0);
+      when(mensagemRepository.findById(id))
+          .thenReturn(Optional.of(mensagemAtual));
+
+      assertThatThrownBy(() -> mensagemService.apagarMensagem(id, 4L))
+          .isInstanceOf(MensagemConflitoException.class);
+      verify(contadorGostei, never()).descartar(any(UUID.class));
+      verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
   }
@@ -195,13 +368,43 @@ class MensagemServiceTest {
       when(mensagemRepository.findById(any(UUID.class)))
           .thenReturn(Optional.of(mensagem));
 
-      when(mensagemRepository.save(any(Mensagem.class)))
-          .thenAnswer(invocation -> invocation.getArgument(0));
-
       var mensagemRecebida = mensagemService.incrementarGostei(mensagem.getId());
 
-      verify(mensagemRepository, times(1)).save(mensagemRecebida);
+      verify(contadorGostei, times(1)).incrementar(mensagem.getId());
+      verify(paginasRecentes, times(1)).gostei(mensagem.getId());
+      verify(mensagemRepository, never()).save(any(Mensagem.class));
+      verify(eventPublisher, never()).publishEvent(any(Object.class));
       assertThat(mensagemRecebida.getGostei()).isEqualTo(1);
+      assertThat(mensagem.getGostei()).isZero();
+    }
+
+    @Test
+    void devePermitirBuscarMensagem_ComGosteiPendente() {
+      var mensagem = MensagemHelper.gerarMensagem();
+      mensagem.setId(UUID.randomUUID());
+      mensagem.setGostei(2);
+
+      when(mensagemRepository.findById(any(UUID.class)))
+          .thenReturn(Optional.of(mensagem));
+      when(contadorGostei.pendente(mensagem.getId()))
+          .thenReturn(3L);
+
+      var mensagemObtida = mensagemService.buscarMensagem(mensagem.getId());
+
+      assertThat(mensagemObtida.getGostei()).isEqualTo(5);
+    }
+
+    @Test
+    void deveGerarExcecao_QuandoIncrementarGostei_IdNaoExistente() {
+      var id = UUID.randomUUID();
+
+      when(mensagemRepository.findById(any(UUID.class)))
+          .thenReturn(Optional.empty());
+
+      assertThatThrownBy(() -> mensagemService.incrementarGostei(id))
+          .isInstanceOf(MensagemNotFoundException.class)
+          .hasMessage("mensagem não encontrada");
+      verify(contadorGostei, never()).incrementar(any(UUID.class));
     }
 
   }
@@ -243,5 +446,203 @@ class MensagemServiceTest {
       assertThat(mensagens).isEmpty();
       verify(mensagemRepository, times(1)).listarMensagens(any(Pageable.class));
     }
+
+    @Test
+    void devePermitirListarResumos_ComGosteiPendente() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      var resumo = new MensagemResumo(mensagem.getId(), mensagem.getUsuario(),
+          mensagem.getConteudo(), mensagem.getDataCriacao(), mensagem.getDataAlteracao(), 2, 0L);
+      when(mensagemRepository.listarResumos(any(Pageable.class)))
+          .thenReturn(new PageImpl<>(List.of(resumo), PageRequest.of(0, 10), 1));
+      when(contadorGostei.pendente(mensagem.getId()))
+          .thenReturn(3L);
+
+      var pagina = mensagemService.listarResumos(PageRequest.of(0, 10));
+
+      assertThat(pagina.getContent())
+          .extracting(MensagemResumo::gostei)
+          .containsExactly(5);
+      assertThat(pagina.getTotalElements()).isEqualTo(1);
+      assertThat(pagina.isHasNext()).isFalse();
+      verify(mensagemRepository, never()).listarMensagens(any(Pageable.class));
+    }
+
+    @Test
+    void devePermitirListarMensagensPeloId_QuandoIdOrdenadoPorCriacao() {
+      var mensagemServiceTemporal = new MensagemServiceImpl(mensagemRepository, contadorGostei,
+          new MensagemCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+          eventPublisher, new GeradorIdTemporal(),
+          new TimelineCache(false, 100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+          indiceMensagens,
+          new CarregamentoUnico(true, Duration.ofSeconds(1), new SimpleMeterRegistry()),
+        paginasRecentes);
+      when(mensagemRepository.listarMensagensPorId(any(Pageable.class)))
+          .thenReturn(new PageImpl<>(Collections.emptyList()));
+
+      mensagemServiceTemporal.listarMensagens(Pageable.unpaged());
+
+      verify(mensagemRepository, times(1)).listarMensagensPorId(any(Pageable.class));
+      verify(mensagemRepository, never()).listarMensagens(any(Pageable.class));
+    }
+  }
+
+  @Nested
+  class ListarMensagensDoUsuario {
+
+    @Test
+    void devePermitirListarMensagensDoUsuario_SemConsultarNovamente() {
+      var mensagens = Arrays.asList(
+          MensagemHelper.gerarMensagemCompleta(),
+          MensagemHelper.gerarMensagemCompleta());
+      when(mensagemRepository.listarMensagensDoUsuario(eq("joe"), any(Pageable.class)))
+          .thenReturn(mensagens);
+
+      mensagemService.listarMensagensDoUsuario("joe", null, 10);
+      var slice = mensagemService.listarMensagensDoUsuario("joe", null, 10);
+
+      assertThat(slice.getContent())
+          .extracting(Mensagem::getId)
+          .containsExactly(mensagens.get(0).getId(), mensagens.get(1).getId());
+      assertThat(slice.isHasNext()).isFalse();
+      verify(mensagemRepository, times(1))
+          .listarMensagensDoUsuario("joe", PageRequest.of(0, 11));
+      verify(mensagemRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void devePermitirListarMensagensDoUsuario_RecarregandoForaDoCache() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      when(mensagemRepository.listarMensagensDoUsuario(eq("joe"), any(Pageable.class)))
+          .thenReturn(List.of(mensagem));
+      when(mensagemRepository.findAllById(any()))
+          .thenReturn(List.of(mensagem));
+      mensagemService.listarMensagensDoUsuario("joe", null, 10);
+      when(mensagemRepository.apagarMensagem(mensagem.getId(), null))
+          .thenReturn(1);
+      mensagemService.apagarMensagem(mensagem.getId(), null);
+
+      var slice = mensagemService.listarMensagensDoUsuario("joe", null, 10);
+
+      assertThat(slice.getContent()).hasSize(1);
+      verify(mensagemRepository, times(1)).findAllById(List.of(mensagem.getId()));
+    }
+
+    @Test
+    void naoDeveArmazenarMensagem_QuandoApagadaDuranteRecarga() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      when(mensagemRepository.listarMensagensDoUsuario(eq("joe"), any(Pageable.class)))
+          .thenReturn(List.of(mensagem));
+      when(mensagemRepository.apagarMensagem(mensagem.getId(), null))
+          .thenReturn(1);
+      mensagemService.listarMensagensDoUsuario("joe", null, 10);
+      mensagemService.apagarMensagem(mensagem.getId(), null);
+      // a exclusão chega depois da leitura do lote e antes de o cache ser preenchido
+      when(mensagemRepository.findAllById(any())).thenAnswer(i -> {
+        mensagemService.apagarMensagem(mensagem.getId(), null);
+        return List.of(mensagem);
+      }).thenReturn(Collections.emptyList());
+
+      mensagemService.listarMensagensDoUsuario("joe", null, 10);
+      var slice = mensagemService.listarMensagensDoUsuario("joe", null, 10);
+
+      assertThat(slice.getContent()).isEmpty();
+      verify(mensagemRepository, times(2)).findAllById(List.of(mensagem.getId()));
+    }
+
+    @Test
+    void devePermitirListarMensagensDoUsuario_AposCursor() {
+      var mensagem = MensagemHelper.gerarMensagemCompleta();
+      var cursor = MensagemCursor.de(mensagem);
+      when(mensagemRepository.listarMensagensDoUsuario(
+          any(String.class), any(LocalDateTime.class), any(UUID.class), any(Pageable.class)))
+          .thenReturn(Collections.emptyList());
+
+      var slice = mensagemService.listarMensagensDoUsuario("joe", cursor, 2);
+
+      assertThat(slice.getContent()).isEmpty();
+      verify(mensagemRepository, times(1)).listarMensagensDoUsuario(
+          "joe", cursor.getDataCriacao(), cursor.getId(), PageRequest.of(0, 3));
+    }
+  }
+
+  @Nested
+  class PesquisarMensagens {
+
+    @Test
+    void devePermitirPesquisarMensagens_NaOrdemDeRelevancia() {
+      var maisRelevante = MensagemHelper.gerarMensagemCompleta();
+      var menosRelevante = MensagemHelper.gerarMensagemCompleta();
+      var ids = List.of(maisRelevante.getId(), menosRelevante.getId());
+      when(indiceMensagens.buscar("xpto", 0, 11))
+          .thenReturn(new IndiceMensagens.Ocorrencias(ids, 2));
+      when(mensagemRepository.findAllById(ids))
+          .thenReturn(List.of(menosRelevante, maisRelevante));
+
+      var busca = mensagemService.pesquisarMensagens("xpto", 0, 10);
+
+      assertThat(busca.getContent())
+          .extracting(Mensagem::getId)
+          .containsExactly(maisRelevante.getId(), menosRelevante.getId());
+      assertThat(busca.getTotal()).isEqualTo(2);
+      assertThat(busca.isHasNext()).isFalse();
+    }
+
+    @Test
+    void devePermitirPesquisarMensagens_IndicandoProximaPagina() {
+      var mensagens = List.of(
+          MensagemHelper.gerarMensagemCompleta(),
+          MensagemHelper.gerarMensagemCompleta(),
+          MensagemHelper.gerarMensagemCompleta());
+      var ids = mensagens.stream().map(Mensagem::getId).toList();
+      when(indiceMensagens.buscar("xpto", 4, 3))
+          .thenReturn(new IndiceMensagens.Ocorrencias(ids, 7));
+      when(mensagemRepository.findAllById(ids))
+          .thenReturn(mensagens);
+
+      var busca = mensagemService.pesquisarMensagens("xpto", 2, 2);
+
+      assertThat(busca.getContent()).hasSize(2);
+      assertThat(busca.isHasNext()).isTrue();
+      assertThat(busca.getPage()).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  class ListarMensagensPorCursor {
+
+    @Test
+    void devePermitirListarMensagensPorCursor_PrimeiraPagina() {
+      var mensagens = Arrays.asList(
+          MensagemHelper.gerarMensagemCompleta(),
+          MensagemHelper.gerarMensagemCompleta(),
+          MensagemHelper.gerarMensagemCompleta());
+      when(mensagemRepository.listarMensagensPorCursor(any(Pageable.class)))
+          .thenReturn(mensagens);
+
+      var slice = mensagemService.listarMensagensPorCursor(null, 2);
+
+      assertThat(slice.getContent()).hasSize(2);
+      assertThat(slice.isHasNext()).isTrue();
+      assertThat(MensagemCursor.decodificar(slice.getNextCursor()))
+          .isEqualTo(MensagemCursor.de(mensagens.get(1)));
+      verify(mensagemRepository, times(1))
+          .listarMensagensPorCursor(PageRequest.of(0, 3));
+    }
+
+    @Test
+    void devePermitirListarMensagensPorCursor_UltimaPagina() {
+      var cursor = MensagemCursor.de(MensagemHelper.gerarMensagemCompleta());
+      when(mensagemRepository.listarMensagensPorCursor(
+          any(LocalDateTime.class), any(UUID.class), any(Pageable.class)))
+          .thenReturn(Collections.singletonList(MensagemHelper.gerarMensagemCompleta()));
+
+      var slice = mensagemService.listarMensagensPorCursor(cursor, 2);
+
+      assertThat(slice.getContent()).hasSize(1);
+      assertThat(slice.isHasNext()).isFalse();
+      assertThat(slice.getNextCursor()).isNull();
+      verify(mensagemRepository, times(1)).listarMensagensPorCursor(
+          cursor.getDataCriacao(), cursor.getId(), PageRequest.of(0, 3));
+    }
   }
 }
@@ -1,6 +1,6 @@
-INSERT INTO mensagem (ID, USUARIO, CONTEUDO, DATA_CRIACAO, DATA_ALTERACAO, GOSTEI)
-VALUES ('5f789b39-4295-42c1-a65b-cfca5b987db2', 'Adam', 'abcd 1234', '2023-07-01 00:00:00.10000', '2023-07-01 00:00:00.10000', 0),
-       ('65b1bbee-c784-4457-be6d-d00b0be5c9e0', 'Diva', 'xpto 4455', '2023-07-01 00:00:00.20000', '2023-07-01 00:00:00.20000', 0),
-       ('592ac344-9f12-40cd-8ed9-1fde6ad9006e', 'Dany', 'xpto 4455', '2023-07-01 00:00:00.40000', '2023-07-01 00:00:00.40000', 0),
-       ('a02bc76a-9e20-4557-be2b-ee4d5b6fa636', 'Eddy', 'xpto 4455', '2023-07-01 00:00:00.50000', '2023-07-01 00:00:00.50000', 0),
-       ('85d16404-0af9-46ed-bdf4-5c2eadedab94', 'Vick', 'ztuw 1425', '2023-07-01 00:00:00.60000', '2023-07-01 00:00:00.60000', 0);
+INSERT INTO mensagem (ID, USUARIO, CONTEUDO, DATA_CRIACAO, DATA_ALTERACAO, GOSTEI, VERSAO)
+VALUES ('5f789b39-4295-42c1-a65b-cfca5b987db2', 'Adam', 'abcd 1234', '2023-07-01 00:00:00.10000', '2023-07-01 00:00:00.10000', 0, 0),
+       ('65b1bbee-c784-4457-be6d-d00b0be5c9e0', 'Diva', 'xpto 4455', '2023-07-01 00:00:00.20000', '2023-07-01 00:00:00.20000', 0, 0),
+       ('592ac344-9f12-40cd-8ed9-1fde6ad9006e', 'Dany', 'xpto 4455', '2023-07-01 00:00:00.40000', '2023-07-01 00:00:00.40000', 0, 0),
+       ('a02bc76a-9e20-4557-be2b-ee4d5b6fa636', 'Eddy', 'xpto 4455', '2023-07-01 00:00:00.50000', '2023-07-01 00:00:00.50000', 0, 0),
+       ('85d16404-0af9-46ed-bdf4-5c2eadedab94', 'Vick', 'ztuw 1425', '2023-07-01 00:00:00.60000', '2023-07-01 00:00:00.60000', 0, 0);